@@ -0,0 +1,54 @@
+package com.benefitmap.backend.auth;
+
+import com.benefitmap.backend.auth.token.TokenHashes;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * refresh 토큰 해시 벤치마크
+ * - legacy: 이전 구현 (호출마다 MessageDigest.getInstance + getBytes + String.format("%02x"))
+ * - shared: TokenHashes.sha256Hex (스레드별 MessageDigest/버퍼 + hex 조회 표)
+ * - length: 토큰 길이 (JWT 형태의 base64url 문자, 실제 refresh 토큰은 약 200자)
+ * - 할당량은 build.gradle의 gc 프로파일러로 함께 측정 (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TokenHashBenchmark {
+
+    private static final String BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    @Param({"64", "200", "512"})
+    public int length;
+
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) sb.append(BASE64URL.charAt(random.nextInt(BASE64URL.length())));
+        token = sb.toString();
+    }
+
+    @Benchmark
+    public String legacy() throws NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] d = md.digest(token.getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder(d.length * 2);
+        for (byte b : d) sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String shared() {
+        return TokenHashes.sha256Hex(token);
+    }
+}
@@ -0,0 +1,59 @@
+package com.benefitmap.backend.catalog;
+
+import com.benefitmap.backend.catalog.dto.CatalogPage;
+import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.dto.CatalogSort;
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.catalog.service.CatalogSearchService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카탈로그 추천 벤치마크
+ * - 합성 카탈로그/검색 서비스 구성은 CatalogSearchBenchmark와 동일
+ * - miss: 추천 캐시 미스 시 계산 경로 (온보딩 태그 조건 → 관련도 순 전체 순번 → 첫 페이지)
+ * - hit: 캐시 적중 시 경로 (미리 계산한 순번에서 첫 페이지만 잘라냄)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CatalogRecommendBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private CatalogSnapshot snapshot;
+    private CatalogSearchService searchService;
+    private CatalogSearchRequest request;
+    private int[] cachedOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        snapshot = CatalogSnapshot.build(1, "benchmark", CatalogSearchBenchmark.synthesize(size),
+                CatalogSearchBenchmark.ITEM_WRITER);
+        searchService = CatalogSearchBenchmark.searchService(parallel);
+        request = new CatalogSearchRequest(null, List.of("YOUTH"), List.of("LOW_INCOME"),
+                List.of("HOUSING", "JOBS"), null, null, null, null, null, null,
+                CatalogSort.RELEVANCE, null, null, null);
+        cachedOrder = searchService.order(snapshot, request);
+    }
+
+    @Benchmark
+    public CatalogPage<WelfareItemDto> miss() {
+        int[] order = searchService.order(snapshot, request);
+        return searchService.page(snapshot, order, CatalogSort.RELEVANCE, 0, null, null);
+    }
+
+    @Benchmark
+    public CatalogPage<WelfareItemDto> hit() {
+        return searchService.page(snapshot, cachedOrder, CatalogSort.RELEVANCE, 0, null, null);
+    }
+}
@@ -0,0 +1,142 @@
+package com.benefitmap.backend.catalog;
+
+import com.benefitmap.backend.catalog.dto.CatalogPage;
+import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.dto.CatalogSort;
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.catalog.index.CatalogItemJson;
+import com.benefitmap.backend.catalog.service.CatalogSearchExecutor;
+import com.benefitmap.backend.catalog.service.CatalogSearchService;
+import com.benefitmap.backend.config.catalog.CatalogProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카탈로그 검색 벤치마크
+ * - welfare_dummy.json 항목을 틀로 size개의 합성 카탈로그를 만들어 스냅샷(색인 포함) 구성
+ *   · id/복지명 접미사/신청 기간만 바꿔 복제 (태그 분포는 원본과 동일)
+ * - 조건 유형(query) × 정렬(sort)별 첫 페이지 검색 (결과 캐시를 거치지 않는 CatalogSearchService 경로)
+ * - parallel: 병렬 검색 풀 사용 여부 (true = 기준 0으로 항상 사용, false = 항상 순차)
+ * - 할당량은 build.gradle의 gc 프로파일러로 함께 측정 (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CatalogSearchBenchmark {
+
+    private static final String TEMPLATE = "catalog/welfare_dummy.json";
+
+    /** 벤치마크용 매퍼 (애플리케이션에서는 Spring Boot ObjectMapper) */
+    static final ObjectMapper MAPPER = new ObjectMapper();
+    static final ObjectWriter ITEM_WRITER = CatalogItemJson.writer(MAPPER);
+
+    /** 검색 조건 유형 */
+    public enum Query {
+        /** 조건 없음 (전체) */
+        EMPTY,
+        /** 키워드만 */
+        KEYWORD,
+        /** 패싯 하나 (생애주기) */
+        SINGLE_FACET,
+        /** 패싯 여러 개 (생애주기 + 가구상황 + 관심주제) */
+        MULTI_FACET
+    }
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"EMPTY", "KEYWORD", "SINGLE_FACET", "MULTI_FACET"})
+    public Query query;
+
+    @Param({"CATALOG", "RELEVANCE"})
+    public CatalogSort sort;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private CatalogSnapshot snapshot;
+    private CatalogSearchService searchService;
+    private CatalogSearchRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        snapshot = CatalogSnapshot.build(1, "benchmark", synthesize(size), ITEM_WRITER);
+        searchService = searchService(parallel);
+        request = requestOf(query, sort);
+    }
+
+    @Benchmark
+    public CatalogPage<WelfareItemDto> search() {
+        return searchService.search(snapshot, request);
+    }
+
+    /** 벤치마크용 검색 서비스 (parallel이면 항목 수와 무관하게 병렬 풀 사용) */
+    static CatalogSearchService searchService(boolean parallel) {
+        CatalogProperties props = new CatalogProperties();
+        props.setParallelThreshold(parallel ? 0 : Integer.MAX_VALUE);
+        return new CatalogSearchService(new CatalogDataLoader(props, event -> { }, MAPPER),
+                new SimpleMeterRegistry(), new CatalogSearchExecutor(props));
+    }
+
+    private static CatalogSearchRequest requestOf(Query query, CatalogSort sort) {
+        return switch (query) {
+            case EMPTY -> request(null, null, null, null, sort);
+            case KEYWORD -> request("청년", null, null, null, sort);
+            case SINGLE_FACET -> request(null, List.of("YOUTH"), null, null, sort);
+            case MULTI_FACET -> request(null, List.of("YOUTH", "MIDDLE_AGED"), List.of("LOW_INCOME"),
+                    List.of("HOUSING", "JOBS"), sort);
+        };
+    }
+
+    private static CatalogSearchRequest request(String keyword, List<String> lifecycles, List<String> households,
+                                                List<String> interests, CatalogSort sort) {
+        return new CatalogSearchRequest(keyword, lifecycles, households, interests,
+                null, null, null, null, null, null, sort, 0, 20, null);
+    }
+
+    /**
+     * 합성 카탈로그
+     * - i번째 항목 = 틀[i % 틀 수]의 복제 (id = i + 1, 복지명에 회차 접미사, 신청 기간 i % 90일 이동)
+     */
+    static List<WelfareItemDto> synthesize(int size) throws IOException {
+        // 1) 틀 읽기
+        List<WelfareItemDto> templates = new ArrayList<>();
+        try (InputStream in = CatalogSearchBenchmark.class.getClassLoader().getResourceAsStream(TEMPLATE)) {
+            if (in == null) throw new IOException("template not found: " + TEMPLATE);
+            new CatalogJsonReader(new JsonFactory()).read(in, templates::add);
+        }
+
+        // 2) 복제
+        List<WelfareItemDto> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            WelfareItemDto t = templates.get(i % templates.size());
+            int round = i / templates.size();
+            int shift = i % 90;
+            out.add(new WelfareItemDto(
+                    (long) i + 1,
+                    round == 0 ? t.welfareName() : t.welfareName() + " " + round,
+                    t.description(), t.department(), t.supportCycle(), t.supplyType(), t.contact(), t.url(),
+                    t.lifecycles(), t.households(), t.interests(),
+                    shift(t.startDate(), shift), shift(t.endDate(), shift),
+                    t.regionDo(), t.regionSi(), t.minAge(), t.maxAge(), t.gender()
+            ));
+        }
+        return out;
+    }
+
+    private static String shift(String date, int days) {
+        return date == null ? null : LocalDate.parse(date).plusDays(days).toString();
+    }
+}
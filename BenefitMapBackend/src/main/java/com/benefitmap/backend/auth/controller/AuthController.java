@@ -5,8 +5,11 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
+import com.benefitmap.backend.auth.principal.AuthPrincipal;
+import com.benefitmap.backend.auth.principal.AuthPrincipalCache;
 import com.benefitmap.backend.auth.token.RefreshToken;
 import com.benefitmap.backend.auth.token.RefreshTokenRepository;
+import com.benefitmap.backend.auth.token.TokenHashes;
 import com.benefitmap.backend.auth.jwt.JwtProvider;
 import com.benefitmap.backend.user.entity.User;
 import com.benefitmap.backend.user.repo.UserRepository;
@@ -25,8 +28,6 @@ import org.springframework.http.*;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.Optional;
 
@@ -44,6 +45,7 @@ public class AuthController {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final AuthPrincipalCache principalCache;
 
     /** HTTPS 환경 권장 여부(true면 Secure 쿠키 + SameSite=None) */
     @Value("${app.cookie.secure:true}")
@@ -133,7 +135,7 @@ public class AuthController {
         }
 
         // 2) 해시 조회 및 만료 확인
-        String hash = sha256Hex(refresh);
+        String hash = TokenHashes.sha256Hex(refresh);
         Optional<RefreshToken> opt = refreshTokenRepository.findByTokenHash(hash);
         if (opt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -153,12 +155,14 @@ public class AuthController {
                     .body(ApiResponse.fail("User not found"));
         }
         if (user.getStatus() == UserStatus.SUSPENDED) {
+            // 정지 반영: 캐시된 인증 주체도 제거해 남은 액세스 토큰이 TTL 전에 막히도록
+            principalCache.evict(userId);
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(ApiResponse.fail("User suspended"));
         }
 
         // 4) ACCESS_TOKEN 재발급 및 쿠키 설정
-        String newAccess = jwtProvider.createAccessToken(user.getId(), user.getRole().name());
+        String newAccess = jwtProvider.createAccessToken(AuthPrincipal.of(user));
         String sameSite = cookieSecure ? "None" : "Lax";
         ResponseCookie atCookie = ResponseCookie.from("ACCESS_TOKEN", newAccess)
                 .httpOnly(true)
@@ -216,7 +220,7 @@ public class AuthController {
             // 1) REFRESH_TOKEN 쿠키 추출 후 DB 레코드 삭제
             String refresh = readCookie(req, "REFRESH_TOKEN");
             if (refresh != null && !refresh.isBlank()) {
-                refreshTokenRepository.deleteByTokenHash(sha256Hex(refresh));
+                refreshTokenRepository.deleteByTokenHash(TokenHashes.sha256Hex(refresh));
             }
         } catch (Exception ignore) {
             // 과제/데모 목적: 삭제 실패해도 쿠키 만료로 처리
@@ -245,19 +249,6 @@ public class AuthController {
         return null;
     }
 
-    /** 문자열을 SHA-256으로 해시하여 16진수 문자열로 반환 */
-    private static String sha256Hex(String s) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] d = md.digest(s.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(d.length * 2);
-            for (byte b : d) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
-        }
-    }
-
     /** 즉시 만료되는 쿠키 생성 */
     private ResponseCookie expiredCookie(String name) {
         String sameSite = cookieSecure ? "None" : "Lax";
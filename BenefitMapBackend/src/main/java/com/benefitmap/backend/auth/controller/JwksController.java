@@ -0,0 +1,46 @@
+package com.benefitmap.backend.auth.controller;
+
+import com.benefitmap.backend.auth.jwt.JwtKeys;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 검증 공개키 (JWKS)
+ * - /.well-known/jwks.json: 현재 검증 가능한 kid별 공개키 (ES256 / EdDSA)
+ *   · 엣지/다른 서비스가 비밀키 없이 액세스 토큰을 검증할 때 사용
+ *   · 표준 형식({"keys": [...]})이어야 하므로 ApiResponse로 감싸지 않음
+ * - HS256이면 빈 목록
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Auth", description = "로그인/토큰/로그아웃 API")
+public class JwksController {
+
+    /** 공개키 캐시 허용 시간 (키 재적재 주기와 비슷하게) */
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtKeys keys;
+
+    @Operation(
+            summary = "JWT 공개키 목록",
+            description = "액세스 토큰 서명 검증용 공개키를 JWKS(RFC 7517) 형식으로 반환합니다. "
+                    + "토큰 헤더의 kid와 같은 키로 검증합니다. HS256 모드에서는 빈 목록입니다.",
+            security = { @SecurityRequirement(name = "") } // 전역 cookieAuth 제외
+    )
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(Map.of("keys", keys.jwks()));
+    }
+}
@@ -1,15 +1,14 @@
 package com.benefitmap.backend.auth.jwt;
 
+import com.benefitmap.backend.auth.principal.AuthPrincipal;
+import com.benefitmap.backend.auth.principal.AuthPrincipalCache;
 import com.benefitmap.backend.common.api.ApiResponse;
-import com.benefitmap.backend.user.enums.Role;
-import com.benefitmap.backend.user.entity.User;
-import com.benefitmap.backend.user.repo.UserRepository;
-import com.benefitmap.backend.user.enums.UserStatus;
 import io.jsonwebtoken.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.*;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -21,29 +20,59 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * JWT 인증 필터 (Stateless)
  * - 우선순위: Authorization: Bearer → ACCESS_TOKEN 쿠키
  * - 토큰 없으면 통과(공개 엔드포인트 유지), 유효하지 않으면 401/403 JSON
  * - 특정 경로는 PENDING도 허용(아래 화이트리스트 참조)
+ * - 사용자 상태/권한은 인증 주체 캐시(AuthPrincipalCache)에서 조회 (요청마다 DB 조회하지 않음)
+ *   · 상태 클레임 토큰이면 발급 후 계정 변경이 없는 한 토큰만으로 인가 (캐시 조회도 생략)
+ * - 인증 처리 시간(benefitmap.auth.jwt.filter, tag outcome)을 기록 (이후 체인 처리 시간은 제외)
+ *   · 결과별 Timer는 생성 시 한 번 등록해 두고 요청마다 재사용 (레지스트리 조회/빌더 할당 없음)
+ * - /actuator/health, /actuator/prometheus는 제외 (수집 요청의 Bearer는 JWT가 아닌 수집 토큰, SecurityConfig에서 확인)
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+    private final AuthPrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
+
+    private static final String FILTER_TIMER = "benefitmap.auth.jwt.filter";
+
+    /** 인증 결과 (outcome 태그 = 소문자 이름) */
+    private enum Outcome { ANONYMOUS, USER_NOT_FOUND, INACTIVE, AUTHENTICATED, INVALID_TOKEN }
+
+    /** 결과 → 미리 등록한 Timer */
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, AuthPrincipalCache principalCache,
+                                   MeterRegistry meterRegistry) {
+        this.jwtProvider = jwtProvider;
+        this.principalCache = principalCache;
+        this.meterRegistry = meterRegistry;
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder(FILTER_TIMER)
+                    .description("JWT authentication filter latency (excluding downstream chain)")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
 
-    /** Swagger/OAuth 등 문서·핸드셰이크 경로는 필터 제외 */
+    /** Swagger/OAuth 등 문서·핸드셰이크 경로, 헬스 체크/메트릭 수집은 필터 제외 */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String p = request.getRequestURI();
         return p.startsWith("/login")
                 || p.startsWith("/oauth2")
                 || p.startsWith("/swagger")
-                || p.startsWith("/v3");
+                || p.startsWith("/v3")
+                || p.startsWith("/actuator/health")
+                || p.startsWith("/actuator/prometheus");
     }
 
     @Override
@@ -51,26 +80,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse res,
                                     FilterChain chain)
             throws ServletException, IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
 
         // 1) 토큰 추출: Bearer → 쿠키(ACCESS_TOKEN)
         String token = extractToken(req);
 
         // 2) 토큰 부재: 그대로 통과
         if (token == null || token.isBlank()) {
+            stop(sample, Outcome.ANONYMOUS);
             chain.doFilter(req, res);
             return;
         }
 
         try {
-            // 3) 파싱/검증 + 사용자 조회
+            // 3) 파싱/검증 + 인증 주체: 상태 클레임 토큰이면 토큰에서, 아니면 캐시(미스일 때만 DB)
             Jws<Claims> jws = jwtProvider.parse(token);
             Long userId = parseUserId(jws);
-            Optional<User> opt = userRepository.findById(userId);
-            if (opt.isEmpty()) {
+            AuthPrincipal principal = principalCache.fromToken(userId, jws.getPayload());
+            if (principal == null) principal = principalCache.get(userId);
+            if (principal == null) {
+                stop(sample, Outcome.USER_NOT_FOUND);
                 writeJson(res, HttpServletResponse.SC_UNAUTHORIZED, ApiResponse.fail("User not found"));
                 return;
             }
-            User user = opt.get();
 
             // 4) PENDING 허용 경로: refresh/logout/onboarding/tags/user/me
             String uri = req.getRequestURI();
@@ -81,24 +113,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             uri.startsWith("/api/tags/") ||
                             uri.equals("/user/me");
 
-            if (!allowPending && user.getStatus() != UserStatus.ACTIVE) {
+            if (!allowPending && !principal.isActive()) {
+                stop(sample, Outcome.INACTIVE);
                 writeJson(res, HttpServletResponse.SC_FORBIDDEN, ApiResponse.fail("User not active"));
                 return;
             }
 
-            // 5) 인증 컨텍스트 세팅 (principal = User)
-            var authority = new SimpleGrantedAuthority(
-                    (user.getRole() != null ? user.getRole() : Role.ROLE_USER).name()
-            );
-            var auth = new UsernamePasswordAuthenticationToken(user, null, Collections.singletonList(authority));
+            // 5) 인증 컨텍스트 세팅 (principal = AuthPrincipal)
+            var authority = new SimpleGrantedAuthority(principal.getRole().name());
+            var auth = new UsernamePasswordAuthenticationToken(principal, null, Collections.singletonList(authority));
             auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(req));
             SecurityContextHolder.getContext().setAuthentication(auth);
-
-            chain.doFilter(req, res);
+            stop(sample, Outcome.AUTHENTICATED);
 
         } catch (JwtException | IllegalArgumentException e) {
+            stop(sample, Outcome.INVALID_TOKEN);
             writeJson(res, HttpServletResponse.SC_UNAUTHORIZED, ApiResponse.fail("Invalid or expired token"));
+            return;
         }
+
+        // 6) 인증 완료 후 체인 진행 (체인 예외는 토큰 오류로 바꾸지 않음)
+        chain.doFilter(req, res);
+    }
+
+    /** 인증 처리 시간 기록 */
+    private void stop(Timer.Sample sample, Outcome outcome) {
+        sample.stop(timers.get(outcome));
     }
 
     private static String extractToken(HttpServletRequest req) {
@@ -0,0 +1,26 @@
+package com.benefitmap.backend.auth.jwt;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Map;
+
+/**
+ * JWT 키 묶음 (불변)
+ * - 키 디렉터리를 한 번 읽은 결과, 재적재 시 통째로 교체
+ *
+ * @param version          적재 순번 (바뀔 때마다 증가, 검증 캐시 무효화 기준)
+ * @param signingKid       서명에 쓰는 키 ID (개인키/공개키가 모두 있는 kid 중 사전순 마지막, 검증 전용이면 null)
+ * @param signingKey       서명 개인키 (검증 전용이면 null)
+ * @param verificationKeys kid → 검증 공개키 (서명 키 포함, 순환 중인 이전 키도 유지)
+ */
+public record JwtKeyRing(long version, String signingKid, PrivateKey signingKey,
+                         Map<String, PublicKey> verificationKeys) {
+
+    /** HS256 등 키 디렉터리를 쓰지 않을 때 */
+    static final JwtKeyRing NONE = new JwtKeyRing(0, null, null, Map.of());
+
+    /** 서명 키가 있는지 (없으면 검증 전용 인스턴스) */
+    public boolean canSign() {
+        return signingKey != null;
+    }
+}
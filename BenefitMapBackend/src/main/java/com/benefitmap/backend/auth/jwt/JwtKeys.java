@@ -0,0 +1,276 @@
+package com.benefitmap.backend.auth.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * JWT 서명키 디렉터리 (ES256 / EdDSA)
+ * - app.jwt.key-dir의 PEM 파일을 kid 단위로 읽음
+ *   · <kid>.pub.pem: 검증 공개키 (X.509 "PUBLIC KEY")
+ *   · <kid>.key.pem: 서명 개인키 (PKCS#8 "PRIVATE KEY"), 서명하는 인스턴스에만 두면 됨
+ * - 서명 키 = 개인키/공개키가 모두 있는 kid 중 사전순 마지막 (kid에 날짜를 붙여 두면 최신 키)
+ *   · 개인키가 없으면 검증 전용 키 묶음 (서명 kid/키 null, 토큰 발급 시 IllegalStateException)
+ *   · 공개키가 하나도 없으면 적재 실패
+ * - 검증 키 = 공개키가 있는 모든 kid → 토큰 헤더의 kid로 선택 (keyLocator)
+ * - 키 순환: 새 kid 파일 추가 → 재적재 후 새 토큰은 새 키로 서명, 이전 토큰은 이전 공개키로 계속 검증
+ *   · 이전 공개키는 그 키로 서명한 토큰이 모두 만료된 뒤(리프레시 TTL) 지우면 됨
+ * - app.jwt.key-reload-interval마다 파일 목록/수정 시각을 비교해 바뀌었을 때만 새 키 묶음으로 교체
+ *   · 재적재 실패(공개키 없음, 잘못된 PEM 등)는 경고만 남기고 이전 키 묶음 유지
+ *   · 서명 가능하던 인스턴스가 검증 전용이 되면(개인키 삭제) 경고를 남김
+ * - HS256이면 아무것도 읽지 않음 (JwtKeyRing.NONE)
+ */
+@Slf4j
+@Component
+public class JwtKeys extends LocatorAdapter<Key> {
+
+    private static final String PUBLIC_SUFFIX = ".pub.pem";
+    private static final String PRIVATE_SUFFIX = ".key.pem";
+
+    /** Ed25519 X.509 공개키 = 12바이트 고정 헤더 + 32바이트 키 */
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    /** P-256 좌표 길이 */
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private final JwtSigning signing;
+    private final Path dir;
+
+    /** 현재 키 묶음 (재적재 시 통째로 교체) */
+    private final AtomicReference<JwtKeyRing> ring = new AtomicReference<>(JwtKeyRing.NONE);
+
+    /** 마지막으로 읽은 디렉터리 상태 (파일명 + 크기 + 수정 시각) */
+    private volatile String fingerprint;
+
+    public JwtKeys(@Value("${app.jwt.algorithm:HS256}") String algorithm,
+                   @Value("${app.jwt.key-dir:}") String keyDir) {
+        this.signing = JwtSigning.of(algorithm);
+        this.dir = keyDir == null || keyDir.isBlank() ? null : Path.of(keyDir);
+        if (!signing.isAsymmetric()) return;
+
+        // 시작 시에는 키가 없거나 잘못되면 기동 실패 (발급/검증이 불가능한 상태로 뜨지 않도록)
+        if (dir == null) throw new IllegalStateException("app.jwt.key-dir is required for " + signing);
+        try {
+            String fp = fingerprintOf(dir);
+            ring.set(load(dir, signing, 1));
+            fingerprint = fp;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("cannot load JWT keys from " + dir + ": " + e.getMessage(), e);
+        }
+        log.info("[JwtKeys] {} signing kid={}, verification kids={}",
+                signing, ring.get().canSign() ? ring.get().signingKid() : "none (verify-only)",
+                ring.get().verificationKeys().keySet());
+    }
+
+    public JwtSigning signing() {
+        return signing;
+    }
+
+    /** 현재 키 묶음 */
+    public JwtKeyRing current() {
+        return ring.get();
+    }
+
+    /** 토큰 헤더의 kid → 검증 공개키 (없으면 null → 파서가 검증 실패 처리) */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        return kid == null ? null : ring.get().verificationKeys().get(kid);
+    }
+
+    /** 주기적 재적재 (디렉터리가 바뀌었을 때만) */
+    @Scheduled(initialDelayString = "${app.jwt.key-reload-interval:PT5M}",
+            fixedDelayString = "${app.jwt.key-reload-interval:PT5M}")
+    public void reload() {
+        if (!signing.isAsymmetric()) return;
+        try {
+            String fp = fingerprintOf(dir);
+            if (fp.equals(fingerprint)) return;
+
+            JwtKeyRing prev = ring.get();
+            JwtKeyRing next = load(dir, signing, prev.version() + 1);
+            ring.set(next);
+            fingerprint = fp;
+            log.info("[JwtKeys] reloaded {} (version {}): signing kid={}, verification kids={}",
+                    dir, next.version(), next.canSign() ? next.signingKid() : "none (verify-only)",
+                    next.verificationKeys().keySet());
+            if (prev.canSign() && !next.canSign()) {
+                log.warn("[JwtKeys] {} has no signing key any more, this instance can no longer issue tokens", dir);
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("[JwtKeys] reload of {} failed, keeping version {}: {}", dir, ring.get().version(), e.getMessage());
+        }
+    }
+
+    /**
+     * 공개키 목록 (JWKS, RFC 7517)
+     * - 엣지/다른 서비스가 공개키만으로 토큰을 검증할 수 있도록 노출
+     * @return kid 순 JWK 목록, HS256이면 빈 목록
+     */
+    public List<Map<String, Object>> jwks() {
+        List<Map<String, Object>> out = new ArrayList<>();
+        ring.get().verificationKeys().forEach((kid, key) -> out.add(jwk(kid, key)));
+        return out;
+    }
+
+    private Map<String, Object> jwk(String kid, PublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (key instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(fixed(ec.getW().getAffineX(), P256_COORDINATE_LENGTH)));
+            jwk.put("y", base64Url(fixed(ec.getW().getAffineY(), P256_COORDINATE_LENGTH)));
+        } else {
+            byte[] encoded = key.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", base64Url(Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length)));
+        }
+        jwk.put("kid", kid);
+        jwk.put("alg", signing.name());
+        jwk.put("use", "sig");
+        return jwk;
+    }
+
+    // ------------------------------------------------------------------------
+    // 적재
+    // ------------------------------------------------------------------------
+
+    /** 디렉터리 → 키 묶음 */
+    private static JwtKeyRing load(Path dir, JwtSigning signing, long version)
+            throws IOException, GeneralSecurityException {
+        KeyFactory factory = KeyFactory.getInstance(signing.keyAlgorithm());
+
+        // 1) 공개키 (kid 사전순)
+        Map<String, PublicKey> publicKeys = new TreeMap<>();
+        for (Path file : list(dir, PUBLIC_SUFFIX)) {
+            PublicKey key = factory.generatePublic(new X509EncodedKeySpec(pem(file, "PUBLIC KEY")));
+            check(signing, key, file);
+            publicKeys.put(kidOf(file, PUBLIC_SUFFIX), key);
+        }
+
+        if (publicKeys.isEmpty()) throw new GeneralSecurityException("no <kid>" + PUBLIC_SUFFIX + " in " + dir);
+
+        // 2) 서명 키: 공개키도 있는 kid 중 사전순 마지막 (없으면 검증 전용)
+        String signingKid = null;
+        for (Path file : list(dir, PRIVATE_SUFFIX)) {
+            String kid = kidOf(file, PRIVATE_SUFFIX);
+            if (publicKeys.containsKey(kid) && (signingKid == null || kid.compareTo(signingKid) > 0)) signingKid = kid;
+        }
+        if (signingKid == null) {
+            return new JwtKeyRing(version, null, null, Collections.unmodifiableMap(publicKeys));
+        }
+        PrivateKey signingKey = factory.generatePrivate(
+                new PKCS8EncodedKeySpec(pem(dir.resolve(signingKid + PRIVATE_SUFFIX), "PRIVATE KEY")));
+
+        return new JwtKeyRing(version, signingKid, signingKey, Collections.unmodifiableMap(publicKeys));
+    }
+
+    /**
+     * ES256은 P-256 키만 허용 (JJWT도 서명/검증 시 확인하지만 적재 단계에서 걸러 냄)
+     * - 필드 크기만으로는 secp256k1 등 다른 256bit 곡선과 구분되지 않으므로 곡선/생성원/위수를 P-256과 비교
+     */
+    private static void check(JwtSigning signing, PublicKey key, Path file) throws GeneralSecurityException {
+        boolean ok = switch (signing) {
+            case ES256 -> key instanceof ECPublicKey ec && isP256(ec.getParams());
+            case EdDSA -> key.getEncoded().length == 12 + ED25519_KEY_LENGTH;
+            case HS256 -> false;
+        };
+        if (!ok) throw new GeneralSecurityException(file.getFileName() + " is not a " + signing + " key");
+    }
+
+    private static boolean isP256(ECParameterSpec params) throws GeneralSecurityException {
+        ECParameterSpec p256 = P256.get();
+        return params.getCurve().equals(p256.getCurve())
+                && params.getGenerator().equals(p256.getGenerator())
+                && params.getOrder().equals(p256.getOrder())
+                && params.getCofactor() == p256.getCofactor();
+    }
+
+    /** P-256(secp256r1) 표준 파라미터 (처음 필요할 때 한 번 조회) */
+    private static final class P256 {
+        private static ECParameterSpec spec;
+
+        static synchronized ECParameterSpec get() throws GeneralSecurityException {
+            if (spec == null) {
+                AlgorithmParameters params = AlgorithmParameters.getInstance("EC");
+                params.init(new ECGenParameterSpec("secp256r1"));
+                spec = params.getParameterSpec(ECParameterSpec.class);
+            }
+            return spec;
+        }
+    }
+
+    private static List<Path> list(Path dir, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private static String kidOf(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.length() - suffix.length());
+    }
+
+    /** PEM 본문(base64) → DER */
+    private static byte[] pem(Path file, String type) throws IOException, GeneralSecurityException {
+        String text = Files.readString(file, StandardCharsets.US_ASCII);
+        String begin = "-----BEGIN " + type + "-----", end = "-----END " + type + "-----";
+        int from = text.indexOf(begin), to = text.indexOf(end);
+        if (from < 0 || to < from) throw new GeneralSecurityException(file.getFileName() + ": expected " + begin);
+        try {
+            return Base64.getMimeDecoder().decode(text.substring(from + begin.length(), to));
+        } catch (IllegalArgumentException e) {
+            throw new GeneralSecurityException(file.getFileName() + ": invalid base64", e);
+        }
+    }
+
+    /** 재적재 판단용 디렉터리 상태 (키 파일의 이름/크기/수정 시각) */
+    private static String fingerprintOf(Path dir) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        List<Path> files = new ArrayList<>(list(dir, PUBLIC_SUFFIX));
+        files.addAll(list(dir, PRIVATE_SUFFIX));
+        for (Path file : files) {
+            sb.append(file.getFileName()).append(':')
+                    .append(Files.size(file)).append(':')
+                    .append(Files.getLastModifiedTime(file).toMillis()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** 부호 없는 고정 길이 빅엔디언 (BigInteger는 앞에 0 바이트가 붙거나 짧을 수 있음) */
+    private static byte[] fixed(BigInteger value, int length) {
+        byte[] raw = value.toByteArray();
+        byte[] out = new byte[length];
+        int copy = Math.min(raw.length, length);
+        System.arraycopy(raw, raw.length - copy, out, length - copy, copy);
+        return out;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -1,7 +1,16 @@
 package com.benefitmap.backend.auth.jwt;
 
+import com.benefitmap.backend.auth.principal.AuthPrincipal;
+import com.benefitmap.backend.config.metrics.CacheMeters;
+import com.benefitmap.backend.user.enums.Role;
+import com.benefitmap.backend.user.enums.UserStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,69 +19,206 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 발급·검증 유틸
  * - subject = userId
- * - HS256 서명
+ * - 서명 방식(app.jwt.algorithm)
+ *   · HS256(기본): app.jwt.secret 공유 비밀키
+ *   · ES256 / EdDSA: JwtKeys의 현재 서명 개인키 + kid 헤더, 검증은 kid로 고른 공개키 (키 순환/JWKS 공개)
+ *   · 개인키가 없는 검증 전용 인스턴스는 검증만 가능 (발급 시 IllegalStateException)
  * - TTL: access/refresh 환경변수 기반
+ * - 상태 클레임 모드(app.jwt.status-claims): 액세스 토큰에 status/email 클레임을 더해 필터가 DB 없이 인가
+ *   · 상태가 토큰에 고정되므로 액세스 TTL을 짧게(app.jwt.status-claims-access-exp-seconds 이하로) 제한
+ *   · 발급 후 계정이 바뀐 토큰은 AuthPrincipalCache의 변경 시각과 비교해 다시 조회
+ * - 파서는 서명키 초기화 때 한 번 만들어 공유 (불변, 스레드 안전)
+ *   · 발급 빌더는 토큰마다 새로 만들어야 하므로(단일 사용) 키/알고리즘과 공통 마무리(signed)만 공유
+ * - 검증 캐시: 원문 토큰의 64bit 해시 → 검증 결과 (Caffeine, 최대 크기 + 토큰 exp에 만료)
+ *   · 같은 쿠키로 반복되는 요청은 서명 검증/클레임 JSON 파싱 생략
+ *   · 적중 시 원문을 비교하므로 해시 충돌은 미스로만 이어짐, 검증 실패 토큰은 캐시하지 않음
+ *   · 키 묶음이 바뀌면(재적재) 이전 버전으로 검증한 항목은 다시 검증 (제거된 kid의 토큰 차단)
+ *   · 적중률 등은 cache=auth.jwt.verified 메트릭으로 노출 (CacheMeters)
  */
 @Component
 public class JwtProvider {
 
     private final String secret;
+    private final JwtKeys keys;
     private final long accessTtl;   // access token 만료(초)
     private final long refreshTtl;  // refresh token 만료(초)
+    private final boolean statusClaims;        // 상태 클레임 모드
+    private final long statusClaimsAccessTtl;  // 상태 클레임 모드의 access token 최대 만료(초)
 
-    private SecretKey key;
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_STATUS = "status";
+    static final String CLAIM_EMAIL = "email";
+    static final String CLAIM_TYPE = "type";
 
-    public JwtProvider(@Value("${app.jwt.secret}") String secret,
+    private static final MacAlgorithm ALGORITHM = Jwts.SIG.HS256;
+
+    private SecretKey key;      // HS256일 때만
+    private JwtParser parser;
+
+    /** 원문 해시 → 검증된 토큰 */
+    private final Cache<Long, Verified> verified;
+
+    /**
+     * 검증 캐시 항목
+     * @param token     원문 (해시 충돌 확인용)
+     * @param jws       검증/파싱 결과
+     * @param expiresAt 토큰 exp (epoch millis)
+     * @param keyVersion 검증 당시 키 묶음 버전
+     */
+    private record Verified(String token, Jws<Claims> jws, long expiresAt, long keyVersion) {
+    }
+
+    public JwtProvider(@Value("${app.jwt.secret:}") String secret,
                        @Value("${app.jwt.access-exp-seconds}") long accessTtl,
-                       @Value("${app.jwt.refresh-exp-seconds}") long refreshTtl) {
+                       @Value("${app.jwt.refresh-exp-seconds}") long refreshTtl,
+                       @Value("${app.jwt.status-claims:false}") boolean statusClaims,
+                       @Value("${app.jwt.status-claims-access-exp-seconds:300}") long statusClaimsAccessTtl,
+                       @Value("${app.jwt.verified-cache-size:10000}") long verifiedCacheSize,
+                       MeterRegistry meterRegistry,
+                       JwtKeys keys) {
         this.secret = secret;
+        this.keys = keys;
         this.accessTtl = accessTtl;
         this.refreshTtl = refreshTtl;
+        this.statusClaims = statusClaims;
+        this.statusClaimsAccessTtl = statusClaimsAccessTtl;
+        this.verified = CacheMeters.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilExpiration())
+                .recordStats()
+                .build(), "auth.jwt.verified");
     }
 
-    /** 앱 시작 시 서명키 초기화 */
+    /** 앱 시작 시 서명키/파서 초기화 */
     @PostConstruct
     void init() {
+        if (keys.signing().isAsymmetric()) {
+            this.parser = Jwts.parser().keyLocator(keys).build();
+            return;
+        }
+        if (secret == null || secret.isBlank()) throw new IllegalStateException("app.jwt.secret is required for HS256");
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
-    public long getAccessTtlSeconds()  { return accessTtl; }
+    /** 실제 access token 만료(초): 상태 클레임 모드면 짧은 쪽 */
+    public long getAccessTtlSeconds()  { return statusClaims ? Math.min(accessTtl, statusClaimsAccessTtl) : accessTtl; }
     public long getRefreshTtlSeconds() { return refreshTtl; }
 
     /** 액세스 토큰 생성 (role 클레임 포함) */
     public String createAccessToken(Long userId, String role) {
-        Instant now = Instant.now();
-        return Jwts.builder()
+        return signed(Jwts.builder()
                 .subject(String.valueOf(userId))
-                .claim("role", role)
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(now.plusSeconds(accessTtl)))
-                .signWith(key, Jwts.SIG.HS256)
-                .compact();
+                .claim(CLAIM_ROLE, role), getAccessTtlSeconds());
+    }
+
+    /**
+     * 액세스 토큰 생성 (사용자 기준)
+     * - 상태 클레임 모드면 role + status/email 클레임 포함, 아니면 role만
+     */
+    public String createAccessToken(AuthPrincipal principal) {
+        if (!statusClaims) return createAccessToken(principal.getId(), principal.getRole().name());
+
+        return signed(Jwts.builder()
+                .subject(String.valueOf(principal.getId()))
+                .claim(CLAIM_ROLE, principal.getRole().name())
+                .claim(CLAIM_STATUS, principal.getStatus().name())
+                .claim(CLAIM_EMAIL, principal.getEmail()), getAccessTtlSeconds());
     }
 
     /** 리프레시 토큰 생성 (type=refresh 클레임 포함) */
     public String createRefreshToken(Long userId, String role) {
-        Instant now = Instant.now();
-        return Jwts.builder()
+        return signed(Jwts.builder()
                 .subject(String.valueOf(userId))
-                .claim("type", "refresh")
-                .claim("role", role)
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(now.plusSeconds(refreshTtl)))
-                .signWith(key, Jwts.SIG.HS256)
-                .compact();
+                .claim(CLAIM_TYPE, "refresh")
+                .claim(CLAIM_ROLE, role), refreshTtl);
     }
 
-    /** 토큰 파싱 + 서명/만료 검증 */
+    /**
+     * 공통 마무리: 발급/만료 시각 + 서명 (공개키 방식이면 현재 서명 키 + kid 헤더)
+     * @throws IllegalStateException 검증 전용 키 묶음(서명 개인키 없음)
+     */
+    private String signed(JwtBuilder builder, long ttlSeconds) {
+        Instant now = Instant.now();
+        builder.issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(ttlSeconds)));
+        if (keys.signing().isAsymmetric()) {
+            JwtKeyRing ring = keys.current();
+            if (!ring.canSign()) {
+                throw new IllegalStateException("JWT signing key not available: this instance is verify-only (no "
+                        + "<kid>.key.pem in app.jwt.key-dir)");
+            }
+            builder.header().keyId(ring.signingKid()).and()
+                    .signWith(ring.signingKey(), keys.signing().signatureAlgorithm());
+        } else {
+            builder.signWith(key, ALGORITHM);
+        }
+        return builder.compact();
+    }
+
+    /**
+     * 토큰 파싱 + 서명/만료 검증
+     * - 같은 원문을 같은 키 묶음으로 이미 검증했고 아직 exp 전이면 캐시된 결과 반환
+     */
     public Jws<Claims> parse(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
+        long hash = hash(token);
+        long keyVersion = keys.current().version();
+        Verified hit = verified.getIfPresent(hash);
+        if (hit != null && hit.keyVersion() == keyVersion && hit.token().equals(token)) return hit.jws();
+
+        Jws<Claims> jws = parser.parseSignedClaims(token);
+        Date exp = jws.getPayload().getExpiration();
+        if (exp != null) verified.put(hash, new Verified(token, jws, exp.getTime(), keyVersion));
+        return jws;
+    }
+
+    /** 원문 64bit 해시 (FNV-1a, UTF-16 단위) */
+    static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /** 검증 캐시 만료: 항목마다 토큰 exp 시각에 만료 (덮어쓰기 시 새 exp 기준, 읽기는 연장 안 함) */
+    private static final class UntilExpiration implements Expiry<Long, Verified> {
+
+        @Override
+        public long expireAfterCreate(Long key, Verified value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Verified value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Verified value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 상태 클레임으로 만든 인증 주체 (서명 검증된 클레임 기준)
+     * @return 인증 주체, 상태 클레임이 없거나(일반/리프레시 토큰) 값을 모르면 null
+     */
+    public static AuthPrincipal principalOf(Long userId, Claims claims) {
+        String status = claims.get(CLAIM_STATUS, String.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (status == null || role == null || claims.get(CLAIM_TYPE) != null) return null;
+        try {
+            return new AuthPrincipal(userId, Role.valueOf(role), UserStatus.valueOf(status),
+                    claims.get(CLAIM_EMAIL, String.class));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,48 @@
+package com.benefitmap.backend.auth.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+/**
+ * JWT 서명 방식 (app.jwt.algorithm)
+ * - HS256: 공유 비밀키(app.jwt.secret) 하나로 서명/검증 (기본값)
+ * - ES256 / EdDSA: 키 디렉터리의 개인키로 서명, kid 헤더로 고른 공개키로 검증
+ */
+public enum JwtSigning {
+
+    HS256(null, null),
+    ES256("EC", Jwts.SIG.ES256),
+    EdDSA("EdDSA", Jwts.SIG.EdDSA);
+
+    /** PEM 키 파일을 읽을 KeyFactory 알고리즘 (HS256은 없음) */
+    private final String keyAlgorithm;
+
+    /** 개인키 서명 알고리즘 (HS256은 없음) */
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    JwtSigning(String keyAlgorithm, SignatureAlgorithm signatureAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+        this.signatureAlgorithm = signatureAlgorithm;
+    }
+
+    public String keyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    /** 공개키 서명 방식 여부 */
+    public boolean isAsymmetric() {
+        return signatureAlgorithm != null;
+    }
+
+    /** 설정 값 → 서명 방식 (대소문자 무시) */
+    public static JwtSigning of(String name) {
+        for (JwtSigning s : values()) {
+            if (s.name().equalsIgnoreCase(name.strip())) return s;
+        }
+        throw new IllegalArgumentException("unsupported app.jwt.algorithm: " + name);
+    }
+}
@@ -1,8 +1,10 @@
 package com.benefitmap.backend.auth.oauth;
 
 import com.benefitmap.backend.auth.jwt.JwtProvider;
+import com.benefitmap.backend.auth.principal.AuthPrincipal;
 import com.benefitmap.backend.auth.token.RefreshToken;
 import com.benefitmap.backend.auth.token.RefreshTokenRepository;
+import com.benefitmap.backend.auth.token.TokenHashes;
 import com.benefitmap.backend.user.entity.User;
 import com.benefitmap.backend.user.enums.Role;
 import com.benefitmap.backend.user.enums.UserStatus;
@@ -21,9 +23,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
@@ -101,11 +100,11 @@ public class OAuth2SuccessHandler implements org.springframework.security.web.au
         userRepository.save(user);
 
         // 4) JWT 발급
-        String accessToken  = jwtProvider.createAccessToken(user.getId(), user.getRole().name());
+        String accessToken  = jwtProvider.createAccessToken(AuthPrincipal.of(user));
         String refreshToken = jwtProvider.createRefreshToken(user.getId(), user.getRole().name());
 
         // 5) refresh 토큰 해시 저장(DB)
-        String tokenHash = sha256Hex(refreshToken);
+        String tokenHash = TokenHashes.sha256Hex(refreshToken);
         refreshTokenRepository.save(
                 RefreshToken.builder()
                         .user(user)
@@ -141,17 +140,4 @@ public class OAuth2SuccessHandler implements org.springframework.security.web.au
                 .maxAge(maxAgeSeconds)
                 .build();
     }
-
-    /** refresh 토큰 저장용 SHA-256 해시 */
-    private static String sha256Hex(String s) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] d = md.digest(s.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(d.length * 2);
-            for (byte b : d) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        }
-    }
 }
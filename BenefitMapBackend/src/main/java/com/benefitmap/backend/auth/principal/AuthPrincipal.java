@@ -0,0 +1,43 @@
+package com.benefitmap.backend.auth.principal;
+
+import com.benefitmap.backend.user.entity.User;
+import com.benefitmap.backend.user.enums.Role;
+import com.benefitmap.backend.user.enums.UserStatus;
+import lombok.Getter;
+
+/**
+ * 인증 주체 (불변)
+ * - JwtAuthenticationFilter가 SecurityContext에 올리는 principal
+ * - 인가/식별에 필요한 값만 보관 (JPA 엔티티를 요청 간 캐시/공유하지 않기 위함)
+ * - getter 기반이라 @AuthenticationPrincipal(expression = "id")로도 사용 가능
+ */
+@Getter
+public final class AuthPrincipal {
+
+    private final Long id;
+    private final Role role;
+    private final UserStatus status;
+    private final String email;
+
+    public AuthPrincipal(Long id, Role role, UserStatus status, String email) {
+        this.id = id;
+        this.role = role != null ? role : Role.ROLE_USER;
+        this.status = status;
+        this.email = email;
+    }
+
+    /** 엔티티 → 인증 주체 */
+    public static AuthPrincipal of(User user) {
+        return new AuthPrincipal(user.getId(), user.getRole(), user.getStatus(), user.getEmail());
+    }
+
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+
+    /** 인증 이름 = 사용자 ID 문자열 (Authentication.getName) */
+    @Override
+    public String toString() {
+        return String.valueOf(id);
+    }
+}
@@ -0,0 +1,96 @@
+package com.benefitmap.backend.auth.principal;
+
+import com.benefitmap.backend.auth.jwt.JwtProvider;
+import com.benefitmap.backend.config.metrics.CacheMeters;
+import com.benefitmap.backend.user.repo.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 인증 주체 캐시
+ * - 사용자 ID → AuthPrincipal (Caffeine, 최대 크기 + 저장 기준 TTL)
+ * - 미스일 때만 users 조회, 없는 사용자는 캐시하지 않음
+ * - 계정 변경(UserAccountChangedEvent) 시 커밋 후 해당 사용자 항목 제거
+ *   · 이벤트 없이 바뀐 값(직접 DB 수정 등)은 TTL 안에 반영
+ * - 적중률 등은 cache=auth.principal 메트릭으로 노출 (CacheMeters)
+ * - 상태 클레임 토큰(JwtProvider 상태 클레임 모드)은 조회 없이 클레임으로 인증 주체 구성
+ *   · 사용자별 마지막 계정 변경 시각(epoch 초)을 메모리에 두고, 그 이전(같은 초 포함)에 발급된 토큰은 신뢰하지 않음
+ *   · 변경 시각은 액세스 토큰 만료 + 여유 시간 뒤 제거 (그 전에 발급된 토큰은 이미 만료)
+ *   · 인스턴스별 메모리이므로 재기동/다른 인스턴스의 변경은 액세스 TTL 안에서만 늦게 반영
+ */
+@Component
+public class AuthPrincipalCache {
+
+    private final UserRepository userRepository;
+
+    /** 변경 시각 보관 여유 (시계 차이/발급 시각 초 단위 절삭 대비) */
+    private static final Duration CHANGE_RETENTION_SLACK = Duration.ofMinutes(1);
+
+    /** 사용자 ID → 인증 주체 */
+    private final Cache<Long, AuthPrincipal> cache;
+
+    /** 사용자 ID → 마지막 계정 변경 시각 (epoch 초) */
+    private final Cache<Long, Long> changedAt;
+
+    public AuthPrincipalCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            JwtProvider jwtProvider,
+            @Value("${app.auth.principal-cache-size:10000}") long maxSize,
+            @Value("${app.auth.principal-cache-ttl:60s}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.cache = CacheMeters.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(), "auth.principal");
+        this.changedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(jwtProvider.getAccessTtlSeconds()).plus(CHANGE_RETENTION_SLACK))
+                .build();
+    }
+
+    /**
+     * 인증 주체 조회
+     * @return 인증 주체, 사용자가 없으면 null
+     */
+    public AuthPrincipal get(Long userId) {
+        return cache.get(userId, id -> userRepository.findById(id).map(AuthPrincipal::of).orElse(null));
+    }
+
+    /**
+     * 토큰 클레임만으로 인증 주체 구성
+     * @param claims 서명/만료 검증된 클레임
+     * @return 인증 주체, 상태 클레임이 없거나 발급 이후 계정이 바뀌었으면 null (get으로 조회할 것)
+     */
+    public AuthPrincipal fromToken(Long userId, Claims claims) {
+        AuthPrincipal principal = JwtProvider.principalOf(userId, claims);
+        if (principal == null) return null;
+
+        Date issuedAt = claims.getIssuedAt();
+        Long changed = changedAt.getIfPresent(userId);
+        if (issuedAt == null || (changed != null && issuedAt.toInstant().getEpochSecond() <= changed)) return null;
+        return principal;
+    }
+
+    /** 해당 사용자 항목 제거 + 변경 시각 기록 (이전에 발급된 상태 클레임 토큰 무효) */
+    public void evict(Long userId) {
+        changedAt.put(userId, Instant.now().getEpochSecond());
+        cache.invalidate(userId);
+    }
+
+    /** 계정 변경 커밋 후 해당 사용자 캐시 제거 (트랜잭션 밖 발행이면 즉시) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.userId());
+    }
+}
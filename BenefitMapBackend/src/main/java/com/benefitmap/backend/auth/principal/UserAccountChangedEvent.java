@@ -0,0 +1,10 @@
+package com.benefitmap.backend.auth.principal;
+
+/**
+ * 사용자 계정 변경 이벤트
+ * - 상태/권한이 바뀌거나(온보딩 완료, 이용 정지 등) 계정이 삭제될 때 발행
+ * - 인증 주체 캐시 등 계정 기반 파생 데이터 무효화용 (커밋 후 처리)
+ *
+ * @param userId 계정이 바뀐 사용자 ID
+ */
+public record UserAccountChangedEvent(Long userId) {}
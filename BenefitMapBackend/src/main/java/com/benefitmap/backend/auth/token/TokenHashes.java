@@ -0,0 +1,105 @@
+package com.benefitmap.backend.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 저장용 해시 (SHA-256 → 소문자 hex 64자)
+ * - refresh 토큰은 원문 대신 이 값으로 저장/조회 (로그인, 재발급, 로그아웃마다 호출)
+ * - 스레드별 MessageDigest + 작업 버퍼 재사용 (getInstance/중간 배열 할당 없음)
+ *   · UTF-8은 버퍼에 직접 인코딩 (String.getBytes와 같은 결과, 짝 없는 대리 문자는 '?')
+ *   · hex는 조회 표로 변환 후 Latin-1 바이트에서 바로 String 생성
+ *   · MAX_BUFFERED_LENGTH보다 긴 입력은 버퍼를 키우지 않고 getBytes 사용 (스레드별 메모리 상한)
+ */
+public final class TokenHashes {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int DIGEST_LENGTH = 32;
+
+    /** 작업 버퍼에 담는 최대 입력 길이 (UTF-16 단위, 토큰은 보통 수백 자) */
+    private static final int MAX_BUFFERED_LENGTH = 1024;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<Hasher> HASHER = ThreadLocal.withInitial(Hasher::new);
+
+    private TokenHashes() {}
+
+    /** SHA-256(UTF-8(s))의 소문자 hex */
+    public static String sha256Hex(String s) {
+        return HASHER.get().sha256Hex(s);
+    }
+
+    /** 스레드별 상태 (MessageDigest + 버퍼) */
+    private static final class Hasher {
+
+        private final MessageDigest md;
+        private final byte[] utf8 = new byte[MAX_BUFFERED_LENGTH * 3];
+        private final byte[] digest = new byte[DIGEST_LENGTH];
+        private final byte[] hex = new byte[DIGEST_LENGTH * 2];
+
+        Hasher() {
+            try {
+                md = MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        String sha256Hex(String s) {
+            // 1) 입력 → digest (짧으면 버퍼에 직접 인코딩)
+            if (s.length() <= MAX_BUFFERED_LENGTH) md.update(utf8, 0, encodeUtf8(s, utf8));
+            else md.update(s.getBytes(StandardCharsets.UTF_8));
+            try {
+                md.digest(digest, 0, DIGEST_LENGTH);
+            } catch (DigestException e) {
+                md.reset();
+                throw new IllegalStateException(e);
+            }
+
+            // 2) hex (바이트당 조회 2번)
+            for (int i = 0; i < DIGEST_LENGTH; i++) {
+                int b = digest[i] & 0xff;
+                hex[2 * i] = HEX[b >>> 4];
+                hex[2 * i + 1] = HEX[b & 0x0f];
+            }
+            return new String(hex, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * UTF-8 인코딩 (out은 s.length() * 3 이상)
+     * @return 쓴 바이트 수
+     */
+    static int encodeUtf8(String s, byte[] out) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                out[n++] = (byte) c;
+            } else if (c < 0x800) {
+                out[n++] = (byte) (0xc0 | (c >>> 6));
+                out[n++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                char low = i + 1 < s.length() ? s.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                    int cp = Character.toCodePoint(c, low);
+                    out[n++] = (byte) (0xf0 | (cp >>> 18));
+                    out[n++] = (byte) (0x80 | ((cp >>> 12) & 0x3f));
+                    out[n++] = (byte) (0x80 | ((cp >>> 6) & 0x3f));
+                    out[n++] = (byte) (0x80 | (cp & 0x3f));
+                    i++;
+                } else {
+                    out[n++] = '?';
+                }
+            } else {
+                out[n++] = (byte) (0xe0 | (c >>> 12));
+                out[n++] = (byte) (0x80 | ((c >>> 6) & 0x3f));
+                out[n++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return n;
+    }
+}
@@ -1,8 +1,8 @@
 package com.benefitmap.backend.calendar.controller;
 
+import com.benefitmap.backend.auth.principal.AuthPrincipal;
 import com.benefitmap.backend.calendar.entity.CalendarEntity;
 import com.benefitmap.backend.calendar.service.CalendarService;
-import com.benefitmap.backend.user.entity.User;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -28,7 +28,7 @@ public class CalendarController {
         if (auth == null) return null;
 
         Object principal = auth.getPrincipal();
-        if (principal instanceof User u) return u.getId();
+        if (principal instanceof AuthPrincipal p) return p.getId();
 
         try {
             var m = principal.getClass().getMethod("getId");
@@ -2,6 +2,7 @@ package com.benefitmap.backend.calendar.service;
 
 import com.benefitmap.backend.calendar.entity.CalendarEntity;
 import com.benefitmap.backend.calendar.repository.CalendarRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,8 +10,13 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 
+/**
+ * 캘린더 일정 서비스
+ * - 모든 public 메서드 처리 시간을 benefitmap.calendar 타이머로 기록 (tag method로 구분)
+ */
 @Service
 @Transactional
+@Timed(value = "benefitmap.calendar", description = "calendar service latency")
 public class CalendarService {
 
     private final CalendarRepository calendarRepository;
@@ -1,57 +1,230 @@
 package com.benefitmap.backend.catalog;
 
-import com.benefitmap.backend.catalog.dto.WelfareItemDto;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.benefitmap.backend.catalog.index.CatalogBinaryFormat;
+import com.benefitmap.backend.config.catalog.CatalogProperties;
+import com.benefitmap.backend.catalog.index.CatalogItemJson;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
-import java.util.List;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 카탈로그 데이터 로더
- * - 애플리케이션 시작 시 welfare_dummy.json 파일을 읽어 복지 데이터를 메모리에 적재
- * - 로드 실패 시 빈 리스트로 초기화
- * - 로드 결과를 로그로 출력
+ * - 애플리케이션 시작 시 카탈로그 JSON을 읽어 스냅샷(항목 + 색인)을 메모리에 적재
+ * - JSON은 스트리밍으로 한 항목씩 읽어 곧바로 색인 빌더에 투입 (전체 트리/중간 리스트 없음)
+ * - 원본: app.catalog.path(외부 파일) 또는 classpath:catalog/welfare_dummy.json
+ * - app.catalog.snapshot-path 지정 시 파싱된 항목과 키워드 색인을 바이너리 스냅샷으로 저장해 다음 기동에 재사용
+ * - 외부 파일 변경(WatchService) 또는 관리자 API 호출 시 새 스냅샷을 백그라운드에서 만든 뒤 참조 교체
+ * - 진행 중인 검색은 이전 스냅샷을 계속 사용(잠금 없음)
+ * - 최초 로드 실패 시 빈 스냅샷, 재적재 실패 시 기존 스냅샷 유지
+ * - 항목 JSON 인코딩은 MVC와 같은 ObjectMapper(Spring Boot 구성)로 만든다. (응답 바이트 일치)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class CatalogDataLoader {
 
-    private final ObjectMapper om = new ObjectMapper();
+    private static final String DEFAULT_RESOURCE = "catalog/welfare_dummy.json";
 
-    /** 로드된 복지 항목 리스트 */
-    @Getter
-    private List<WelfareItemDto> items = Collections.emptyList();
+    /** 파일 저장 시 연속 이벤트를 한 번으로 모으기 위한 대기 시간 */
+    private static final long WATCH_DEBOUNCE_MS = 500;
+
+    private final CatalogProperties props;
+    private final ApplicationEventPublisher events;
+    private final ObjectMapper objectMapper;
+    private final CatalogJsonReader reader = new CatalogJsonReader(new JsonFactory());
+
+    /** 현재 스냅샷 (교체는 set 한 번) */
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>(CatalogSnapshot.empty());
+
+    /** 재적재 직렬화용 락 (검색 경로와 무관) */
+    private final Object reloadLock = new Object();
+
+    private volatile WatchService watchService;
+    private Thread watcher;
+
+    /** 현재 스냅샷 */
+    public CatalogSnapshot snapshot() {
+        return current.get();
+    }
 
     /**
-     * 애플리케이션 시작 시 JSON 파일을 읽어 데이터 적재
-     * - 파일 경로: classpath:catalog/welfare_dummy.json
-     * - 실패 시 빈 리스트로 대체
+     * 애플리케이션 시작 시 최초 적재 + 파일 감시 시작
+     * - 실패 시 빈 스냅샷 유지
      */
     @PostConstruct
-    void load() {
+    void init() {
         try {
-            // 1) 리소스 파일 로드
-            ClassPathResource res = new ClassPathResource("catalog/welfare_dummy.json");
+            reload();
+        } catch (Exception e) {
+            log.error("[CatalogDataLoader] load failed: {}", e.getMessage(), e);
+        }
+        if (props.hasExternalPath() && props.isWatch()) {
+            startWatcher(Path.of(props.getPath()).toAbsolutePath());
+        }
+    }
+
+    /**
+     * 원본을 다시 읽어 새 스냅샷으로 교체
+     * - 새 스냅샷(항목 + 색인)을 모두 만든 뒤에만 교체하므로 실패 시 기존 스냅샷 유지
+     * - 바이너리 스냅샷이 원본 지문과 일치하면 JSON 대신 그것을 매핑해 복원
+     * @return 교체된 새 스냅샷
+     * @throws IOException 원본 읽기/파싱 실패
+     */
+    public CatalogSnapshot reload() throws IOException {
+        synchronized (reloadLock) {
+            // 1) 원본 결정
+            Resource res = props.hasExternalPath()
+                    ? new FileSystemResource(props.getPath())
+                    : new ClassPathResource(DEFAULT_RESOURCE);
+            long version = current.get().version() + 1;
+            CatalogBinaryFormat.Fingerprint fp = props.hasSnapshotPath() ? fingerprintOf(res) : null;
 
-            // 2) JSON → 객체 변환
-            try (InputStream in = res.getInputStream()) {
-                items = om.readValue(in, new TypeReference<List<WelfareItemDto>>() {});
+            // 2) 바이너리 스냅샷 복원 시도 → 없거나 맞지 않으면 JSON 스트리밍 파싱
+            CatalogSnapshot next = fp != null ? restore(res, fp, version) : null;
+            boolean restored = next != null;
+            if (!restored) {
+                CatalogSnapshot.Builder builder = CatalogSnapshot.builder(version, res.getDescription(),
+                        CatalogItemJson.writer(objectMapper));
+                try (InputStream in = res.getInputStream()) {
+                    reader.read(in, builder::add);
+                }
+                next = builder.build();
             }
 
-            // 3) 로드 성공 로그
-            log.info("[CatalogDataLoader] loaded {} items from {}", items.size(), res.getPath());
+            // 3) 스냅샷 완성 후 교체 + 교체 알림 (스냅샷 기반 캐시 무효화)
+            current.set(next);
+            events.publishEvent(new CatalogReloadedEvent(next));
 
-        } catch (Exception e) {
-            // 4) 실패 시 빈 리스트 유지
-            log.error("[CatalogDataLoader] load failed: {}", e.getMessage(), e);
-            items = Collections.emptyList();
+            // 4) 로드 성공 로그
+            log.info("[CatalogDataLoader] loaded {} items from {} (version {}, {})",
+                    next.size(), next.source(), next.version(), restored ? "binary snapshot" : "json");
+
+            // 5) JSON에서 만든 경우 다음 기동을 위해 바이너리 스냅샷 저장 (실패해도 적재는 유지)
+            if (fp != null && !restored) store(next, fp);
+            return next;
+        }
+    }
+
+    /** 원본 지문 (길이를 알 수 없으면 null = 바이너리 스냅샷 미사용) */
+    private static CatalogBinaryFormat.Fingerprint fingerprintOf(Resource res) {
+        try {
+            long lastModified;
+            try {
+                lastModified = res.lastModified();
+            } catch (IOException e) {
+                lastModified = -1;
+            }
+            return new CatalogBinaryFormat.Fingerprint(res.getDescription(), res.contentLength(), lastModified);
+        } catch (IOException e) {
+            log.warn("[CatalogDataLoader] snapshot disabled, cannot fingerprint {}: {}",
+                    res.getDescription(), e.getMessage());
+            return null;
         }
     }
+
+    /** 바이너리 스냅샷 복원 (없음/불일치/손상/메모리 부족 시 null → JSON 파싱) */
+    private CatalogSnapshot restore(Resource res, CatalogBinaryFormat.Fingerprint fp, long version) {
+        Path file = Path.of(props.getSnapshotPath());
+        try {
+            CatalogBinaryFormat.Contents c = CatalogBinaryFormat.read(file, fp);
+            if (c == null) {
+                log.info("[CatalogDataLoader] binary snapshot {} missing or stale, parsing json", file);
+                return null;
+            }
+            return CatalogSnapshot.restore(version, res.getDescription(),
+                    c.items(), c.tagCodes(), c.keywordIndex(), CatalogItemJson.writer(objectMapper));
+        } catch (IOException e) {
+            log.warn("[CatalogDataLoader] binary snapshot {} unreadable, parsing json: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 바이너리 스냅샷 저장 */
+    private void store(CatalogSnapshot snap, CatalogBinaryFormat.Fingerprint fp) {
+        Path file = Path.of(props.getSnapshotPath());
+        try {
+            CatalogBinaryFormat.write(file, fp, snap.items(), snap.tagCodes(), snap.keywordIndex());
+            log.info("[CatalogDataLoader] wrote binary snapshot {}", file);
+        } catch (IOException e) {
+            log.warn("[CatalogDataLoader] binary snapshot not written to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** 외부 파일이 있는 디렉터리를 감시하고 변경 시 재적재 */
+    private void startWatcher(Path file) {
+        Path dir = file.getParent();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("[CatalogDataLoader] watch disabled for {}: {}", dir, e.getMessage());
+            return;
+        }
+
+        watcher = new Thread(() -> watchLoop(file), "catalog-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("[CatalogDataLoader] watching {}", file);
+    }
+
+    private void watchLoop(Path file) {
+        Path name = file.getFileName();
+        WatchService ws = watchService;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // 1) 대상 파일 이벤트 대기
+                WatchKey key = ws.take();
+                boolean changed = drain(key, name);
+
+                // 2) 연속 이벤트(에디터 저장 등) 모으기
+                WatchKey more;
+                while ((more = ws.poll(WATCH_DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(more, name);
+                }
+
+                // 3) 재적재 (실패 시 기존 스냅샷 유지)
+                if (changed) {
+                    try {
+                        reload();
+                    } catch (Exception e) {
+                        log.error("[CatalogDataLoader] reload failed, keeping version {}: {}",
+                                current.get().version(), e.getMessage(), e);
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+        }
+    }
+
+    private static boolean drain(WatchKey key, Path name) {
+        boolean hit = false;
+        for (WatchEvent<?> ev : key.pollEvents()) {
+            if (ev.kind() == StandardWatchEventKinds.OVERFLOW || name.equals(ev.context())) hit = true;
+        }
+        key.reset();
+        return hit;
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        if (watcher != null) watcher.interrupt();
+        if (watchService != null) watchService.close();
+    }
 }
@@ -0,0 +1,42 @@
+package com.benefitmap.backend.catalog;
+
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * 스냅샷 항목 일부를 순번으로 가리키는 읽기 전용 리스트
+ * - 검색/추천 페이지 항목으로 사용 (항목 복사 없이 순번 배열만 보관)
+ * - get은 공개 DTO를 그때그때 만든다. (일반 Jackson 직렬화 폴백용)
+ * - 응답 변환기가 순번으로 미리 인코딩된 JSON 바이트를 꺼내 쓴다. (json)
+ */
+public final class CatalogItemSlice extends AbstractList<WelfareItemDto> implements RandomAccess {
+
+    private final CatalogSnapshot snapshot;
+    private final int[] ordinals;
+
+    /**
+     * @param snapshot 항목 출처 스냅샷
+     * @param ordinals 노출 순서대로의 순번 (소유권 이전, 이후 수정 금지)
+     */
+    public CatalogItemSlice(CatalogSnapshot snapshot, int[] ordinals) {
+        this.snapshot = snapshot;
+        this.ordinals = ordinals;
+    }
+
+    @Override
+    public WelfareItemDto get(int index) {
+        return snapshot.dto(ordinals[index]);
+    }
+
+    @Override
+    public int size() {
+        return ordinals.length;
+    }
+
+    /** index번째 항목의 JSON 바이트 (공유 배열이므로 수정 금지) */
+    public byte[] json(int index) {
+        return snapshot.itemJson().bytes(ordinals[index]);
+    }
+}
@@ -0,0 +1,167 @@
+package com.benefitmap.backend.catalog;
+
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 카탈로그 JSON 스트리밍 리더
+ * - 최상위 배열을 JsonParser로 한 항목씩 읽어 consumer에 바로 전달 (전체 트리/리스트를 만들지 않음)
+ * - 반복되는 값(태그 코드, 부처, 지원주기, 지원형태, 날짜, 지역, 성별)과 태그 목록은 공용 풀로 중복 제거
+ * - 알 수 없는 필드는 건너뜀
+ * - id는 숫자(또는 숫자 문자열)만 허용, 그 밖의 값은 형식 오류로 적재 실패 (잘못된 id가 조용히 사라지지 않도록)
+ */
+public class CatalogJsonReader {
+
+    private final JsonFactory factory;
+
+    public CatalogJsonReader(JsonFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * 항목을 순서대로 읽어 전달
+     * @return 읽은 항목 수
+     * @throws IOException 읽기 실패 또는 형식 오류(최상위가 배열이 아님 등)
+     */
+    public int read(InputStream in, Consumer<WelfareItemDto> sink) throws IOException {
+        Pool pool = new Pool();
+        int count = 0;
+        try (JsonParser p = factory.createParser(in)) {
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(p, "catalog root must be an array");
+            }
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (t != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(p, "catalog item must be an object");
+                }
+                sink.accept(readItem(p, pool));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static WelfareItemDto readItem(JsonParser p, Pool pool) throws IOException {
+        Long id = null;
+        String welfareName = null, description = null, department = null;
+        String supportCycle = null, supplyType = null, contact = null, url = null;
+        List<String> lifecycles = null, households = null, interests = null;
+        String startDate = null, endDate = null;
+        String regionDo = null, regionSi = null;
+        Integer minAge = null, maxAge = null;
+        String gender = null;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken v = p.nextToken();
+            switch (field) {
+                case "id"           -> id = id(p, v);
+                case "welfareName"  -> welfareName = text(p, v);
+                case "description"  -> description = text(p, v);
+                case "department"   -> department = pool.string(text(p, v));
+                case "supportCycle" -> supportCycle = pool.string(text(p, v));
+                case "supplyType"   -> supplyType = pool.string(text(p, v));
+                case "contact"      -> contact = text(p, v);
+                case "url"          -> url = text(p, v);
+                case "lifecycles"   -> lifecycles = tags(p, v, pool);
+                case "households"   -> households = tags(p, v, pool);
+                case "interests"    -> interests = tags(p, v, pool);
+                case "startDate"    -> startDate = pool.string(text(p, v));
+                case "endDate"      -> endDate = pool.string(text(p, v));
+                case "regionDo"     -> regionDo = pool.string(text(p, v));
+                case "regionSi"     -> regionSi = pool.string(text(p, v));
+                case "minAge"       -> minAge = integer(p, v);
+                case "maxAge"       -> maxAge = integer(p, v);
+                case "gender"       -> gender = pool.string(text(p, v));
+                default             -> p.skipChildren();
+            }
+        }
+
+        return new WelfareItemDto(
+                id, welfareName, description, department, supportCycle, supplyType, contact, url,
+                lifecycles, households, interests, startDate, endDate, regionDo, regionSi,
+                minAge, maxAge, gender
+        );
+    }
+
+    /**
+     * id 값 → Long (null은 null)
+     * - 실수 표기는 소수부가 없을 때만 허용 (12.0 → 12, 12.7은 잘라내지 않고 오류)
+     * @throws JsonParseException 숫자가 아닌 값, 정수가 아니거나 long 범위를 벗어난 실수
+     */
+    private static Long id(JsonParser p, JsonToken v) throws IOException {
+        if (v == JsonToken.VALUE_NULL) return null;
+        if (v == JsonToken.VALUE_NUMBER_INT) return p.getLongValue();
+        if (v == JsonToken.VALUE_NUMBER_FLOAT) {
+            try {
+                return p.getDecimalValue().longValueExact();
+            } catch (ArithmeticException e) {
+                throw new JsonParseException(p, "catalog item id must be an integer: " + p.getText());
+            }
+        }
+        if (v == JsonToken.VALUE_STRING) {
+            try {
+                return Long.valueOf(p.getText().trim());
+            } catch (NumberFormatException e) {
+                throw new JsonParseException(p, "catalog item id must be a number: " + p.getText());
+            }
+        }
+        throw new JsonParseException(p, "catalog item id must be a number");
+    }
+
+    /** 스칼라 값 → 문자열 (null/객체/배열은 null) */
+    private static String text(JsonParser p, JsonToken v) throws IOException {
+        if (v == JsonToken.START_OBJECT || v == JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return null;
+        }
+        return v == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+    }
+
+    /** 숫자 값 → Integer (null/숫자가 아닌 값은 null) */
+    private static Integer integer(JsonParser p, JsonToken v) throws IOException {
+        if (v == JsonToken.VALUE_NUMBER_INT) return p.getIntValue();
+        if (v == JsonToken.START_OBJECT || v == JsonToken.START_ARRAY) p.skipChildren();
+        return null;
+    }
+
+    /** 태그 배열 → 불변 리스트 (null 요소 제외) */
+    private static List<String> tags(JsonParser p, JsonToken v, Pool pool) throws IOException {
+        if (v != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return null;
+        }
+        List<String> out = new ArrayList<>(4);
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (t == JsonToken.VALUE_STRING) out.add(pool.string(p.getText()));
+            else p.skipChildren();
+        }
+        return pool.list(out);
+    }
+
+    /** 적재 1회 동안 쓰는 값 풀 */
+    private static final class Pool {
+        private final Map<String, String> strings = new HashMap<>();
+        private final Map<List<String>, List<String>> lists = new HashMap<>();
+
+        String string(String s) {
+            if (s == null) return null;
+            String prev = strings.putIfAbsent(s, s);
+            return prev != null ? prev : s;
+        }
+
+        List<String> list(List<String> l) {
+            return lists.computeIfAbsent(l, List::copyOf);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.benefitmap.backend.catalog;
+
+/**
+ * 카탈로그 스냅샷 교체 이벤트
+ * - CatalogDataLoader가 새 스냅샷으로 교체한 직후 발행
+ * - 스냅샷 기반 캐시 무효화용
+ *
+ * @param snapshot 새로 교체된 스냅샷
+ */
+public record CatalogReloadedEvent(CatalogSnapshot snapshot) {}
@@ -0,0 +1,145 @@
+package com.benefitmap.backend.catalog;
+
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.catalog.index.CatalogDateIndex;
+import com.benefitmap.backend.catalog.index.CatalogEligibilityIndex;
+import com.benefitmap.backend.catalog.index.CatalogFuzzyIndex;
+import com.benefitmap.backend.catalog.index.CatalogItem;
+import com.benefitmap.backend.catalog.index.CatalogItemJson;
+import com.benefitmap.backend.catalog.index.CatalogKeywordIndex;
+import com.benefitmap.backend.catalog.index.CatalogRegionIndex;
+import com.benefitmap.backend.catalog.index.CatalogSuggestIndex;
+import com.benefitmap.backend.catalog.index.CatalogTagCodes;
+import com.benefitmap.backend.catalog.index.CatalogTagIndex;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 카탈로그 스냅샷 (불변)
+ * - 항목 목록과 파생 색인을 한 번에 묶어 교체 단위로 사용
+ * - 검색은 시작 시점의 스냅샷 하나만 참조하므로 재적재 중에도 잠금 없이 일관된 결과를 본다.
+ * - 항목은 내부 표현(CatalogItem: epoch-day 날짜, 태그 마스크)으로 보관하고 공개 DTO는 필요할 때만 만든다.
+ *
+ * @param version      적재 순번 (재적재마다 증가, 0 = 빈 스냅샷)
+ * @param loadedAt     적재 완료 시각
+ * @param source       원본 위치 (로그/관리 API 표시용)
+ * @param items        내부 항목 (리스트 순서 = 색인 순번)
+ * @param tagCodes     태그 코드 사전 (항목 마스크의 비트 ↔ 코드)
+ * @param tagIndex     태그 역색인
+ * @param keywordIndex 키워드 n-gram 색인
+ * @param fuzzyIndex   복지명 초성/오타 허용 색인 (키워드 부분 일치가 없을 때 사용)
+ * @param dateIndex    신청 기간 색인 (epoch-day)
+ * @param regionIndex  대상 지역 색인 (전국 / 시·도 / 시·군·구)
+ * @param eligibilityIndex 대상 나이/성별 색인
+ * @param suggestIndex 자동완성 접두사 트라이 (복지명/부처명)
+ * @param itemJson     항목별 JSON 인코딩 (응답 시 재직렬화 없이 사용)
+ */
+public record CatalogSnapshot(
+        long version,
+        Instant loadedAt,
+        String source,
+        List<CatalogItem> items,
+        CatalogTagCodes tagCodes,
+        CatalogTagIndex tagIndex,
+        CatalogKeywordIndex keywordIndex,
+        CatalogFuzzyIndex fuzzyIndex,
+        CatalogDateIndex dateIndex,
+        CatalogRegionIndex regionIndex,
+        CatalogEligibilityIndex eligibilityIndex,
+        CatalogSuggestIndex suggestIndex,
+        CatalogItemJson itemJson
+) {
+
+    /** 빈 스냅샷 (최초 적재 전/실패 시) */
+    public static CatalogSnapshot empty() {
+        return new CatalogSnapshot(0, Instant.now(), "none", List.of(), CatalogTagCodes.empty(),
+                CatalogTagIndex.empty(), CatalogKeywordIndex.empty(), CatalogFuzzyIndex.empty(),
+                CatalogDateIndex.empty(), CatalogRegionIndex.empty(), CatalogEligibilityIndex.empty(),
+                CatalogSuggestIndex.empty(), CatalogItemJson.empty());
+    }
+
+    /**
+     * 항목 목록으로 색인까지 생성한 스냅샷
+     * @param itemWriter 항목 JSON 인코딩용 writer (CatalogItemJson.writer)
+     */
+    public static CatalogSnapshot build(long version, String source, List<WelfareItemDto> items,
+                                        ObjectWriter itemWriter) {
+        Builder b = builder(version, source, itemWriter);
+        items.forEach(b::add);
+        return b.build();
+    }
+
+    /**
+     * 이미 만들어진 항목/키워드 색인으로 스냅샷 구성 (바이너리 스냅샷 복원용)
+     * - 저장되지 않는 색인(태그 비트셋, 초성/오타, 날짜, 지역, 자격, 자동완성, JSON 인코딩)은 항목에서 다시 만든다.
+     */
+    public static CatalogSnapshot restore(long version, String source, List<CatalogItem> items,
+                                          CatalogTagCodes tagCodes, CatalogKeywordIndex keywordIndex,
+                                          ObjectWriter itemWriter) {
+        return new CatalogSnapshot(version, Instant.now(), source, items, tagCodes,
+                CatalogTagIndex.build(items, tagCodes), keywordIndex, CatalogFuzzyIndex.build(items),
+                CatalogDateIndex.build(items), CatalogRegionIndex.build(items), CatalogEligibilityIndex.build(items),
+                CatalogSuggestIndex.build(items),
+                CatalogItemJson.build(items, itemWriter));
+    }
+
+    /** 항목을 하나씩 받아 색인을 함께 쌓는 빌더 (스트리밍 적재용) */
+    public static Builder builder(long version, String source, ObjectWriter itemWriter) {
+        return new Builder(version, source, itemWriter);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /** 순번의 공개 DTO (호출마다 새로 만든다) */
+    public WelfareItemDto dto(int ordinal) {
+        return items.get(ordinal).toDto();
+    }
+
+    /**
+     * 스냅샷 빌더
+     * - add 순서 = 색인 순번
+     * - DTO는 받는 즉시 내부 항목으로 바꾸고 보관하지 않는다.
+     */
+    public static final class Builder {
+
+        private final long version;
+        private final String source;
+        private final ObjectWriter itemWriter;
+        private final List<CatalogItem> items = new ArrayList<>();
+        private final CatalogTagCodes.Builder tagCodes = new CatalogTagCodes.Builder();
+        private final CatalogKeywordIndex.Builder keywordIndex = new CatalogKeywordIndex.Builder();
+        private final CatalogDateIndex.Builder dateIndex = new CatalogDateIndex.Builder();
+
+        private Builder(long version, String source, ObjectWriter itemWriter) {
+            this.version = version;
+            this.source = source;
+            this.itemWriter = itemWriter;
+        }
+
+        /**
+         * @throws IllegalArgumentException 패싯 코드가 CatalogTagCodes.MAX_CODES를 넘는 경우
+         */
+        public Builder add(WelfareItemDto dto) {
+            CatalogItem item = CatalogItem.of(dto, tagCodes);
+            items.add(item);
+            keywordIndex.add(item);
+            dateIndex.add(item);
+            return this;
+        }
+
+        public CatalogSnapshot build() {
+            CatalogTagCodes codes = tagCodes.build();
+            List<CatalogItem> fixed = Collections.unmodifiableList(items);
+            return new CatalogSnapshot(version, Instant.now(), source, fixed, codes,
+                    CatalogTagIndex.build(fixed, codes), keywordIndex.build(), CatalogFuzzyIndex.build(fixed),
+                    dateIndex.build(), CatalogRegionIndex.build(fixed), CatalogEligibilityIndex.build(fixed),
+                    CatalogSuggestIndex.build(fixed), CatalogItemJson.build(fixed, itemWriter));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.benefitmap.backend.catalog.controller;
+
+import com.benefitmap.backend.catalog.CatalogDataLoader;
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.CatalogCacheStats;
+import com.benefitmap.backend.catalog.dto.CatalogSnapshotInfo;
+import com.benefitmap.backend.catalog.service.CatalogSearchCache;
+import com.benefitmap.backend.common.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 카탈로그 관리자 API 컨트롤러
+ * - GET  /admin/catalog        : 현재 스냅샷 정보
+ * - POST /admin/catalog/reload : 원본을 다시 읽어 스냅샷 교체
+ * - GET  /admin/catalog/cache  : 검색 결과 캐시 통계
+ * - /admin/** 는 SecurityConfig에서 ADMIN 전용
+ */
+@Slf4j
+@Tag(name = "Catalog Admin", description = "카탈로그 관리자 API")
+@RestController
+@RequestMapping("/admin/catalog")
+@RequiredArgsConstructor
+public class CatalogAdminController {
+
+    private final CatalogDataLoader loader;
+    private final CatalogSearchCache searchCache;
+
+    @Operation(summary = "카탈로그 스냅샷 정보", description = "현재 서비스 중인 카탈로그 스냅샷의 버전/항목 수/원본을 반환합니다.")
+    @GetMapping
+    public ApiResponse<CatalogSnapshotInfo> info() {
+        return ApiResponse.ok(toInfo(loader.snapshot()));
+    }
+
+    @Operation(
+            summary = "카탈로그 재적재",
+            description = "카탈로그 원본을 다시 읽어 새 스냅샷으로 교체합니다. 실패 시 기존 스냅샷이 유지됩니다."
+    )
+    @PostMapping("/reload")
+    public ResponseEntity<ApiResponse<CatalogSnapshotInfo>> reload() {
+        try {
+            CatalogSnapshot snap = loader.reload();
+            return ResponseEntity.ok(ApiResponse.ok("catalog reloaded", toInfo(snap)));
+        } catch (Exception e) {
+            log.error("[CatalogAdmin] reload failed: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("reload failed, previous snapshot kept (see server log)"));
+        }
+    }
+
+    @Operation(summary = "검색 캐시 통계", description = "검색 결과 캐시의 적중/미스/제거 수와 현재 크기를 반환합니다.")
+    @GetMapping("/cache")
+    public ApiResponse<CatalogCacheStats> cacheStats() {
+        return ApiResponse.ok(searchCache.stats());
+    }
+
+    private static CatalogSnapshotInfo toInfo(CatalogSnapshot snap) {
+        return new CatalogSnapshotInfo(snap.version(), snap.size(), snap.loadedAt(), snap.source());
+    }
+}
@@ -1,11 +1,16 @@
 package com.benefitmap.backend.catalog.controller;
 
+import com.benefitmap.backend.auth.principal.AuthPrincipal;
+import com.benefitmap.backend.catalog.dto.CatalogFacetCounts;
+import com.benefitmap.backend.catalog.dto.CatalogPage;
 import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.dto.CatalogSort;
 import com.benefitmap.backend.catalog.dto.WelfareItemDto;
-import com.benefitmap.backend.catalog.service.CatalogSearchService;
+import com.benefitmap.backend.catalog.service.CatalogFacetService;
+import com.benefitmap.backend.catalog.service.CatalogRecommendService;
+import com.benefitmap.backend.catalog.service.CatalogSearchCache;
+import com.benefitmap.backend.catalog.service.CatalogSuggestService;
 import com.benefitmap.backend.common.api.ApiResponse;
-import com.benefitmap.backend.onboarding.TagQueryService;
-import com.benefitmap.backend.user.entity.User;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,8 +29,11 @@ import java.util.List;
 
 /**
  * 복지 카탈로그 검색 API 컨트롤러
- * - /api/catalog/search : 키워드/생애주기/가구상황/관심사로 검색
- * - /api/catalog/recommend : 로그인 사용자의 온보딩 태그로 선필터 추천
+ * - /api/catalog/search : 키워드/생애주기/가구상황/관심사/신청 기간/지역으로 검색
+ * - /api/catalog/recommend : 로그인 사용자의 온보딩 태그 + 거주지로 선필터 추천
+ * - /api/catalog/facets : 현재 선택 조건의 태그별 건수 (필터 칩)
+ * - /api/catalog/suggest : 검색창 자동완성 (복지명/부처명 후보 문자열)
+ * - 두 API 모두 페이지 단위 응답 (page/size 또는 nextCursor)
  * - households에 "NONE" 포함 시 단독만 허용
  */
 @Tag(name = "Catalog", description = "복지 카탈로그 검색/추천 API")
@@ -34,8 +42,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CatalogController {
 
-    private final CatalogSearchService catalogSearchService;
-    private final TagQueryService tagQueryService;
+    private final CatalogSearchCache catalogSearchCache;
+    private final CatalogRecommendService catalogRecommendService;
+    private final CatalogFacetService catalogFacetService;
+    private final CatalogSuggestService catalogSuggestService;
 
     /**
      * 카탈로그 검색
@@ -43,7 +53,14 @@ public class CatalogController {
     @Operation(
             summary = "카탈로그 검색",
             description = "키워드/생애주기/가구상황/관심주제 조건으로 복지 항목을 검색합니다. "
-                    + "households에 \"NONE\"이 포함되면 단독만 허용됩니다."
+                    + "키워드와 부분 일치하는 항목이 없으면 복지명 초성(예: ㅊㅅㅈㅇ) 또는 오타 허용(편집 거리 1~2) 검색으로 대신 찾습니다. "
+                    + "households에 \"NONE\"이 포함되면 단독만 허용됩니다. "
+                    + "window로 오늘 신청 가능(OPEN)/마감 임박(CLOSING_SOON)/시작 예정(OPENING_SOON) 항목만 고를 수 있으며, "
+                    + "임박/예정 기간은 withinDays(기본 7, 최대 365)일입니다. "
+                    + "regionDo/regionSi를 주면 전국 + 해당 시·도 전체 + 해당 시·군·구 대상 항목만 반환합니다. "
+                    + "age/gender를 주면 대상 나이 범위에 들고 성별 제한이 없거나 같은 항목만 반환합니다. "
+                    + "sort=RELEVANCE면 일치 태그 수/키워드 일치 필드/마감 임박 점수 순으로 정렬합니다. "
+                    + "결과는 page/size(기본 20, 최대 200) 또는 이전 응답의 nextCursor로 나누어 받습니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -58,7 +75,8 @@ public class CatalogController {
                                             {
                                               "success": true,
                                               "message": "ok",
-                                              "data": [
+                                              "data": {
+                                                "items": [
                                                 {
                                                   "id": 91,
                                                   "welfareName": "복지이름91",
@@ -72,9 +90,19 @@ public class CatalogController {
                                                   "households": ["NONE"],
                                                   "interests": ["CARE_PROTECT","MICRO_FINANCE","LIVING_SUPPORT"],
                                                   "startDate": "2025-10-10",
-                                                  "endDate": "2025-10-18"
+                                                  "endDate": "2025-10-18",
+                                                  "regionDo": null,
+                                                  "regionSi": null,
+                                                  "minAge": null,
+                                                  "maxAge": null,
+                                                  "gender": null
                                                 }
-                                              ],
+                                                ],
+                                                "page": 0,
+                                                "size": 20,
+                                                "totalElements": 127,
+                                                "nextCursor": "AAAAAAAAAAEAAAABAAAAFA"
+                                              },
                                               "timestamp": "2025-10-12T00:00:00Z"
                                             }
                                             """
@@ -102,7 +130,7 @@ public class CatalogController {
             )
     })
     @PostMapping("/search")
-    public ApiResponse<List<WelfareItemDto>> search(
+    public ApiResponse<CatalogPage<WelfareItemDto>> search(
             @RequestBody(
                     description = "검색 요청 바디",
                     required = true,
@@ -117,7 +145,24 @@ public class CatalogController {
                                                       "keyword": "복지",
                                                       "lifecycles": ["YOUTH"],
                                                       "households": ["LOW_INCOME"],
-                                                      "interests": ["HOUSING"]
+                                                      "interests": ["HOUSING"],
+                                                      "regionDo": "서울특별시",
+                                                      "regionSi": "종로구",
+                                                      "age": 27,
+                                                      "sort": "RELEVANCE",
+                                                      "page": 0,
+                                                      "size": 20
+                                                    }
+                                                    """
+                                    ),
+                                    @ExampleObject(
+                                            name = "ClosingSoon",
+                                            value = """
+                                                    {
+                                                      "lifecycles": ["YOUTH"],
+                                                      "window": "CLOSING_SOON",
+                                                      "withinDays": 7,
+                                                      "sort": "RELEVANCE"
                                                     }
                                                     """
                                     ),
@@ -136,16 +181,100 @@ public class CatalogController {
             )
             @Valid @org.springframework.web.bind.annotation.RequestBody CatalogSearchRequest req
     ) {
-        return ApiResponse.ok(catalogSearchService.search(req));
+        return ApiResponse.ok(catalogSearchCache.search(req));
+    }
+
+    /**
+     * 패싯 건수
+     * - 검색과 같은 요청 바디 (page/size/sort/cursor는 무시)
+     */
+    @Operation(
+            summary = "패싯 건수",
+            description = "현재 선택 조건에서 생애주기/가구상황/관심주제 태그별 일치 항목 수를 반환합니다. "
+                    + "각 패싯의 건수는 해당 패싯 선택을 제외한 나머지 조건 기준입니다(패싯 내부 OR)."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class),
+                            examples = @ExampleObject(
+                                    name = "FacetsSuccess",
+                                    value = """
+                                            {
+                                              "success": true,
+                                              "message": "ok",
+                                              "data": {
+                                                "total": 12,
+                                                "lifecycles": { "SENIOR": 4, "YOUTH": 12 },
+                                                "households": { "LOW_INCOME": 5, "NONE": 6 },
+                                                "interests": { "HOUSING": 12, "JOBS": 3 }
+                                              },
+                                              "timestamp": "2025-10-12T00:00:00Z"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @PostMapping("/facets")
+    public ApiResponse<CatalogFacetCounts> facets(
+            @Valid @org.springframework.web.bind.annotation.RequestBody CatalogSearchRequest req
+    ) {
+        return ApiResponse.ok(catalogFacetService.count(req));
     }
 
     /**
-     * 로그인 사용자의 온보딩 태그로 선필터하여 추천 목록 반환
-     * - SecurityContext의 principal로 User를 받는 구조(JwtAuthenticationFilter에서 설정) 전제
+     * 검색창 자동완성
+     * - 접두사 트라이에 미리 계산된 상위 후보만 반환 (항목 내용 없이 문자열 목록)
+     */
+    @Operation(
+            summary = "검색어 자동완성",
+            description = "입력 중인 문자열(q)로 시작하는 복지명/부처명 후보를 반환합니다. "
+                    + "대소문자를 구분하지 않으며 복지명 중간 단어(예: \"월세\" → \"청년 월세 지원\")로도 찾습니다. "
+                    + "해당 복지 항목이 많은 문자열이 먼저 나오며 size는 기본/최대 10입니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class),
+                            examples = @ExampleObject(
+                                    name = "SuggestSuccess",
+                                    value = """
+                                            {
+                                              "success": true,
+                                              "message": "ok",
+                                              "data": ["청년 주거 지원", "청년 월세 지원", "청년구직활동지원금"],
+                                              "timestamp": "2025-10-12T00:00:00Z"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @GetMapping("/suggest")
+    public ApiResponse<List<String>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ApiResponse.ok(catalogSuggestService.suggest(q, size));
+    }
+
+    /**
+     * 로그인 사용자의 온보딩 태그와 프로필 거주지로 선필터하여 추천 목록 반환
+     * - SecurityContext의 principal로 AuthPrincipal을 받는 구조(JwtAuthenticationFilter에서 설정) 전제
+     * - 태그 조회/매칭 결과는 사용자별로 캐시 (CatalogRecommendService)
      */
     @Operation(
             summary = "사용자 맞춤 추천",
-            description = "로그인 사용자의 온보딩 태그(생애주기/가구상황/관심주제)로 먼저 필터링한 복지 목록을 반환합니다."
+            description = "로그인 사용자의 온보딩 태그(생애주기/가구상황/관심주제)와 거주지(전국 + 거주 시·도 + 거주 시·군·구 대상), "
+                    + "나이/성별 자격으로 먼저 필터링한 복지 목록을 반환합니다. "
+                    + "기본 정렬은 관련도 순(sort=RELEVANCE)이며 page/size 또는 cursor 쿼리 파라미터로 페이지를 지정합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -160,7 +289,8 @@ public class CatalogController {
                                             {
                                               "success": true,
                                               "message": "ok",
-                                              "data": [
+                                              "data": {
+                                                "items": [
                                                 {
                                                   "id": 12,
                                                   "welfareName": "청년 주거 지원",
@@ -174,9 +304,19 @@ public class CatalogController {
                                                   "households": ["LOW_INCOME"],
                                                   "interests": ["HOUSING"],
                                                   "startDate": "2025-10-05",
-                                                  "endDate": "2025-10-20"
+                                                  "endDate": "2025-10-20",
+                                                  "regionDo": "서울특별시",
+                                                  "regionSi": null,
+                                                  "minAge": 19,
+                                                  "maxAge": 34,
+                                                  "gender": null
                                                 }
-                                              ],
+                                                ],
+                                                "page": 0,
+                                                "size": 20,
+                                                "totalElements": 1,
+                                                "nextCursor": null
+                                              },
                                               "timestamp": "2025-10-12T00:00:00Z"
                                             }
                                             """
@@ -185,28 +325,16 @@ public class CatalogController {
             )
     })
     @GetMapping("/recommend")
-    public ApiResponse<List<WelfareItemDto>> recommend() {
-        User user = (User) SecurityContextHolder.getContext()
+    public ApiResponse<CatalogPage<WelfareItemDto>> recommend(
+            @RequestParam(defaultValue = "RELEVANCE") CatalogSort sort,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        AuthPrincipal principal = (AuthPrincipal) SecurityContextHolder.getContext()
                 .getAuthentication().getPrincipal();
 
-        // 사용자의 온보딩 태그 코드 조회
-        var tags = tagQueryService.getUserTagCodes(user.getId());
-
-        // households: NONE이 섞여 있으면 NONE 단독으로 정규화
-        List<String> households = tags.households();
-        if (households != null && households.size() > 1 &&
-                households.stream().anyMatch(s -> "NONE".equalsIgnoreCase(s))) {
-            households = List.of("NONE");
-        }
-
-        // 온보딩 태그를 검색 조건으로 구성
-        var req = new CatalogSearchRequest(
-                null,                 // keyword 없음
-                tags.lifecycles(),    // 생애주기
-                households,           // 가구상황
-                tags.interests()      // 관심주제
-        );
-
-        return ApiResponse.ok(catalogSearchService.search(req));
+        // 사용자별 캐시된 추천 순번에서 요청 페이지만 잘라 반환
+        return ApiResponse.ok(catalogRecommendService.recommend(principal.getId(), sort, page, size, cursor));
     }
 }
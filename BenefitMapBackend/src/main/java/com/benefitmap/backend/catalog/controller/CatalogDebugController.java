@@ -15,6 +15,6 @@ public class CatalogDebugController {
 
     @GetMapping("/count")
     public ApiResponse<Integer> count() {
-        return ApiResponse.ok(loader.getItems() == null ? 0 : loader.getItems().size());
+        return ApiResponse.ok(loader.snapshot().size());
     }
 }
@@ -0,0 +1,31 @@
+package com.benefitmap.backend.catalog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 카탈로그 캐시 통계 DTO
+ * - 관리자 API 응답 (마지막 재시작 이후 누적)
+ */
+@Schema(description = "카탈로그 캐시 통계")
+public record CatalogCacheStats(
+
+        /** 적중 수 */
+        @Schema(description = "적중 수", example = "1520")
+        long hits,
+
+        /** 미스 수 */
+        @Schema(description = "미스 수", example = "80")
+        long misses,
+
+        /** 크기/시간 제한으로 제거된 수 */
+        @Schema(description = "제거 수(크기/시간 제한)", example = "12")
+        long evictions,
+
+        /** 적중률 (0~1) */
+        @Schema(description = "적중률(0~1)", example = "0.95")
+        double hitRate,
+
+        /** 현재 항목 수 (근사치) */
+        @Schema(description = "현재 항목 수(근사치)", example = "64")
+        long size
+) {}
@@ -0,0 +1,13 @@
+package com.benefitmap.backend.catalog.dto;
+
+/**
+ * 신청 기간 필터 (기준일 = 오늘, Asia/Seoul)
+ * - OPEN         : 오늘 신청 가능 (시작일 ≤ 오늘 ≤ 마감일, 시작일/마감일 없음은 열린 구간)
+ * - CLOSING_SOON : 신청 가능하면서 마감일이 오늘 ~ 오늘+withinDays
+ * - OPENING_SOON : 시작일이 내일 ~ 오늘+withinDays
+ */
+public enum CatalogDateWindow {
+    OPEN,
+    CLOSING_SOON,
+    OPENING_SOON
+}
@@ -0,0 +1,30 @@
+package com.benefitmap.backend.catalog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * 카탈로그 패싯 건수 DTO
+ * - 현재 선택 조건에서 태그 코드별 일치 항목 수 (필터 칩 표시용)
+ * - 각 패싯의 건수는 해당 패싯 선택을 제외한 나머지 조건 기준 (패싯 내부는 OR이므로)
+ */
+@Schema(description = "카탈로그 패싯 건수")
+public record CatalogFacetCounts(
+
+        /** 현재 조건 전체 일치 항목 수 */
+        @Schema(description = "현재 조건 전체 일치 항목 수", example = "42")
+        int total,
+
+        /** 생애주기 코드별 건수 */
+        @Schema(description = "생애주기 코드별 건수", example = "{\"YOUTH\": 12, \"SENIOR\": 7}")
+        Map<String, Integer> lifecycles,
+
+        /** 가구상황 코드별 건수 */
+        @Schema(description = "가구상황 코드별 건수", example = "{\"LOW_INCOME\": 9, \"NONE\": 30}")
+        Map<String, Integer> households,
+
+        /** 관심주제 코드별 건수 */
+        @Schema(description = "관심주제 코드별 건수", example = "{\"HOUSING\": 5, \"JOBS\": 11}")
+        Map<String, Integer> interests
+) {}
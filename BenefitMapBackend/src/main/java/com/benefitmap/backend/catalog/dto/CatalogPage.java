@@ -0,0 +1,34 @@
+package com.benefitmap.backend.catalog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 카탈로그 페이지 응답 DTO
+ * - 검색/추천 결과 중 요청한 구간만 담는다.
+ * - nextCursor가 null이면 마지막 페이지
+ */
+@Schema(description = "카탈로그 페이지")
+public record CatalogPage<T>(
+
+        /** 현재 페이지 항목 */
+        @Schema(description = "현재 페이지 항목")
+        List<T> items,
+
+        /** 페이지 번호 (0부터) */
+        @Schema(description = "페이지 번호(0부터)", example = "0")
+        int page,
+
+        /** 페이지 크기 */
+        @Schema(description = "페이지 크기", example = "20")
+        int size,
+
+        /** 조건에 맞는 전체 항목 수 */
+        @Schema(description = "조건에 맞는 전체 항목 수", example = "127")
+        long totalElements,
+
+        /** 다음 페이지 커서 (없으면 null) */
+        @Schema(description = "다음 페이지 커서(불투명 문자열), 마지막 페이지면 null", nullable = true)
+        String nextCursor
+) {}
@@ -1,6 +1,7 @@
 package com.benefitmap.backend.catalog.dto;
 
 import com.benefitmap.backend.catalog.validation.NoneExclusive;
+import com.benefitmap.backend.user.enums.Gender;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -9,13 +10,18 @@ import java.util.List;
  * 카탈로그 검색 요청 DTO
  * - 복지 항목 검색 시 사용자가 입력한 조건을 전달하는 데이터 구조
  * - keyword, lifecycles, households, interests 필드로 구성
+ * - window/withinDays로 신청 기간(오늘 신청 가능, 마감 임박, 시작 예정) 필터
+ * - regionDo/regionSi로 거주지 기준 대상 지역(전국 + 시·도 전체 + 시·군·구) 필터
+ * - age/gender로 대상 나이·성별 자격 필터 (제한 없는 항목은 항상 포함)
+ * - sort로 카탈로그 순서 / 관련도 순 선택
+ * - page/size 또는 이전 응답의 nextCursor로 페이지 지정 (cursor가 있으면 page는 무시)
  * - households에는 @NoneExclusive 검증이 적용되어 NONE 단독 선택만 허용
  */
 @Schema(description = "카탈로그 검색 요청")
 public record CatalogSearchRequest(
 
-        /** 키워드 (복지명 또는 내용 부분 일치 검색) */
-        @Schema(description = "키워드(복지명/내용 부분일치)")
+        /** 키워드 (복지명 또는 내용 부분 일치 검색, 일치 없으면 복지명 초성/오타 허용) */
+        @Schema(description = "키워드(복지명/내용 부분일치, 일치 없으면 복지명 초성/오타 허용)")
         String keyword,
 
         /** 생애주기 태그 목록 (예: YOUTH, SENIOR 등) */
@@ -29,5 +35,46 @@ public record CatalogSearchRequest(
 
         /** 관심주제 태그 목록 (예: HOUSING, JOBS 등) */
         @Schema(description = "관심주제 태그 목록 예: HOUSING, JOBS ...")
-        List<String> interests
+        List<String> interests,
+
+        /** 신청 기간 필터 (없으면 기간 무관) */
+        @Schema(description = "신청 기간 필터: OPEN(오늘 신청 가능) / CLOSING_SOON(마감 임박) / OPENING_SOON(시작 예정)",
+                example = "CLOSING_SOON")
+        CatalogDateWindow window,
+
+        /** CLOSING_SOON/OPENING_SOON 기간 (일, 기본 7, 최대 365) */
+        @Schema(description = "마감 임박/시작 예정 기간(일), 기본 7 / 최대 365", example = "7")
+        Integer withinDays,
+
+        /** 거주 시·도 (없으면 지역 무관) */
+        @Schema(description = "거주 시·도, 지정 시 전국 + 해당 시·도 대상 항목만", example = "서울특별시")
+        String regionDo,
+
+        /** 거주 시·군·구 (regionDo와 함께 지정) */
+        @Schema(description = "거주 시·군·구, 지정 시 해당 시·군·구 대상 항목도 포함", example = "종로구")
+        String regionSi,
+
+        /** 나이 (없으면 나이 무관) */
+        @Schema(description = "나이, 지정 시 대상 나이 범위에 드는 항목만", example = "27")
+        Integer age,
+
+        /** 성별 (없으면 성별 무관) */
+        @Schema(description = "성별, 지정 시 성별 제한이 없거나 같은 성별 대상 항목만", example = "FEMALE")
+        Gender gender,
+
+        /** 정렬 (기본 CATALOG) */
+        @Schema(description = "정렬: CATALOG(카탈로그 순서, 기본) / RELEVANCE(관련도 순)", example = "RELEVANCE")
+        CatalogSort sort,
+
+        /** 페이지 번호 (0부터, 기본 0) */
+        @Schema(description = "페이지 번호(0부터), 기본 0", example = "0")
+        Integer page,
+
+        /** 페이지 크기 (기본 20, 최대 200) */
+        @Schema(description = "페이지 크기, 기본 20 / 최대 200", example = "20")
+        Integer size,
+
+        /** 이전 응답의 nextCursor (지정 시 page 무시) */
+        @Schema(description = "이전 응답의 nextCursor, 지정 시 page 무시")
+        String cursor
 ) {}
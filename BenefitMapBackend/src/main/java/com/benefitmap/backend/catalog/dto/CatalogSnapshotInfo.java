@@ -0,0 +1,29 @@
+package com.benefitmap.backend.catalog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * 카탈로그 스냅샷 정보 DTO
+ * - 관리자 재적재/상태 조회 응답
+ */
+@Schema(description = "카탈로그 스냅샷 정보")
+public record CatalogSnapshotInfo(
+
+        /** 스냅샷 버전 (재적재마다 증가) */
+        @Schema(description = "스냅샷 버전", example = "2")
+        long version,
+
+        /** 항목 수 */
+        @Schema(description = "항목 수", example = "127")
+        int items,
+
+        /** 적재 완료 시각 */
+        @Schema(description = "적재 완료 시각")
+        Instant loadedAt,
+
+        /** 원본 위치 */
+        @Schema(description = "원본 위치", example = "class path resource [catalog/welfare_dummy.json]")
+        String source
+) {}
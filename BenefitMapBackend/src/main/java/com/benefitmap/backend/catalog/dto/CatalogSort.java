@@ -0,0 +1,11 @@
+package com.benefitmap.backend.catalog.dto;
+
+/**
+ * 카탈로그 결과 정렬
+ * - CATALOG   : 카탈로그(원본 파일) 순서
+ * - RELEVANCE : 관련도 점수 순 (일치 태그 수 + 키워드 일치 필드 + 마감 임박)
+ */
+public enum CatalogSort {
+    CATALOG,
+    RELEVANCE
+}
@@ -46,5 +46,20 @@ public record WelfareItemDto(
         String startDate,
 
         /** 복지 신청 마감일 (예: 2025-10-20) */
-        String endDate
+        String endDate,
+
+        /** 대상 시/도 (예: 서울특별시, 없으면 전국) */
+        String regionDo,
+
+        /** 대상 시/군/구 (예: 종로구, 없으면 시/도 전체) */
+        String regionSi,
+
+        /** 대상 최소 나이 (포함, 없으면 제한 없음) */
+        Integer minAge,
+
+        /** 대상 최대 나이 (포함, 없으면 제한 없음) */
+        Integer maxAge,
+
+        /** 대상 성별 (MALE / FEMALE, 없으면 제한 없음) */
+        String gender
 ) {}
@@ -0,0 +1,89 @@
+package com.benefitmap.backend.catalog.index;
+
+import java.util.Arrays;
+
+/**
+ * long[] 비트셋 유틸
+ * - 카탈로그 항목 순번(ordinal)을 비트 위치로 사용
+ * - 인덱스/검색에서 OR(패싯 내부), AND(패싯 간) 연산에 사용
+ */
+public final class Bitmaps {
+
+    private Bitmaps() {}
+
+    /** n개 비트를 담는 데 필요한 word 수 */
+    public static int words(int n) {
+        return (n + 63) >>> 6;
+    }
+
+    /** 빈 비트셋 */
+    public static long[] empty(int n) {
+        return new long[words(n)];
+    }
+
+    /** 0..n-1 전체가 켜진 비트셋 */
+    public static long[] full(int n) {
+        long[] bits = new long[words(n)];
+        Arrays.fill(bits, -1L);
+        int rem = n & 63;
+        if (rem != 0) bits[bits.length - 1] = (1L << rem) - 1;
+        return bits;
+    }
+
+    public static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    public static boolean get(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /** into |= src */
+    public static void or(long[] into, long[] src) {
+        for (int w = 0; w < into.length; w++) into[w] |= src[w];
+    }
+
+    /** into &= src */
+    public static void and(long[] into, long[] src) {
+        for (int w = 0; w < into.length; w++) into[w] &= src[w];
+    }
+
+    public static int cardinality(long[] bits) {
+        int c = 0;
+        for (long w : bits) c += Long.bitCount(w);
+        return c;
+    }
+
+    /** |a & b| (새 배열 없이 계산) */
+    public static int andCardinality(long[] a, long[] b) {
+        int c = 0;
+        for (int w = 0; w < a.length; w++) c += Long.bitCount(a[w] & b[w]);
+        return c;
+    }
+
+    /** from 이상에서 처음 켜진 비트 위치, 없으면 -1 */
+    public static int nextSetBit(long[] bits, int from) {
+        int w = from >>> 6;
+        if (w >= bits.length) return -1;
+        long word = bits[w] & (-1L << from);
+        while (true) {
+            if (word != 0) return (w << 6) + Long.numberOfTrailingZeros(word);
+            if (++w == bits.length) return -1;
+            word = bits[w];
+        }
+    }
+
+    /** rank번째(0부터) 켜진 비트 위치, 켜진 비트가 rank개 이하면 -1 */
+    public static int select(long[] bits, long rank) {
+        for (int w = 0; w < bits.length; w++) {
+            int c = Long.bitCount(bits[w]);
+            if (rank < c) {
+                long word = bits[w];
+                for (long r = rank; r > 0; r--) word &= word - 1; // 하위 비트 rank개 제거
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            rank -= c;
+        }
+        return -1;
+    }
+}
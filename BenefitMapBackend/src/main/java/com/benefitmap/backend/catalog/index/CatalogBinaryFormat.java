@@ -0,0 +1,340 @@
+package com.benefitmap.backend.catalog.index;
+
+import com.benefitmap.backend.user.enums.Gender;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * 카탈로그 바이너리 스냅샷 포맷
+ * - 저장 대상은 항목과 키워드 색인뿐 (내부 항목, 태그 코드 사전, n-gram posting)
+ * - 다음 기동 시 FileChannel.map으로 매핑해 복원 → 생략되는 것은 JSON 파싱과 n-gram 색인 생성
+ *   · 태그 비트셋, 초성/오타, 날짜, 지역/자격, 자동완성 색인과 항목 JSON은 복원 후 항목에서 다시 만듦
+ * - 문자열은 사전(dictionary) 인덱스로, 날짜는 epoch-day int, 태그는 패싯별 마스크로 저장
+ * - 헤더의 포맷 버전 또는 원본 지문(fingerprint)이 다르면 null을 돌려주고 호출자는 JSON으로 폴백
+ * - 개수/길이 값은 할당 전에 남은 바이트로 상한을 확인 (손상된 파일이 거대한 배열을 잡지 않도록)
+ *
+ * 레이아웃 (big-endian)
+ * - MAGIC, FORMAT_VERSION, 원본 지문(설명/길이/수정시각)
+ * - 문자열 사전: 개수, (바이트 길이, UTF-8)*
+ * - 태그 코드 사전: 패싯별 (패싯 이름 참조, 코드 수, 코드 참조*)  ※ 비트 위치 순
+ * - 항목: 개수, (id, 문자열 참조 10개, 태그 마스크 3개, 시작일, 종료일, 최소/최대 나이,
+ *         원본 태그 목록 3개, 원본 시작일/마감일 문자열 참조)*
+ *   · 원본 태그 목록: 길이(null이면 -1) + 문자열 참조*, 같은 목록은 복원 시 하나로 공유
+ * - 키워드 색인: (정규화 문자열 참조, 복지명 끝, 설명 끝)*, 1-gram / 2-gram posting
+ * - END
+ */
+public final class CatalogBinaryFormat {
+
+    /** 포맷 변경 시 올릴 것 (다르면 스냅샷 무시) */
+    public static final int FORMAT_VERSION = 6;
+
+    private static final int MAGIC = 0x424D4353; // "BMCS"
+    private static final int END = 0x454E4421;   // "END!"
+
+    private static final int NULL_REF = -1;
+
+    /** 항목 하나의 최소 바이트 수 (id, 문자열 참조 10개, 마스크 3개, 날짜/나이 4개, 태그 목록 3개, 날짜 참조 2개) */
+    private static final int MIN_ITEM_BYTES = Long.BYTES + 10 * Integer.BYTES + 3 * Long.BYTES
+            + 4 * Integer.BYTES + 3 * Integer.BYTES + 2 * Integer.BYTES;
+
+    private CatalogBinaryFormat() {
+    }
+
+    /**
+     * 원본 지문
+     * @param source       원본 위치 설명
+     * @param length       원본 바이트 길이
+     * @param lastModified 원본 수정 시각 (epoch millis, 모르면 -1)
+     */
+    public record Fingerprint(String source, long length, long lastModified) {
+    }
+
+    /** 복원 결과 (항목 순서 = 색인 순번) */
+    public record Contents(List<CatalogItem> items,
+                           CatalogTagCodes tagCodes,
+                           CatalogKeywordIndex keywordIndex) {
+    }
+
+    /**
+     * 스냅샷 저장
+     * - 임시 파일에 쓴 뒤 이동하므로 읽는 쪽이 쓰다 만 파일을 보지 않는다.
+     */
+    public static void write(Path target, Fingerprint fp, List<CatalogItem> items,
+                             CatalogTagCodes tagCodes, CatalogKeywordIndex keywordIndex) throws IOException {
+        // 1) 문자열 사전 구성 (등장 순서대로 번호 부여)
+        Map<String, Integer> dict = new LinkedHashMap<>();
+        for (CatalogItem item : items) {
+            for (String s : stringsOf(item)) ref(dict, s);
+            for (List<String> tags : tagsOf(item)) {
+                if (tags != null) tags.forEach(tag -> ref(dict, tag));
+            }
+            ref(dict, item.startDate());
+            ref(dict, item.endDate());
+        }
+        for (CatalogFacet facet : CatalogFacet.values()) {
+            ref(dict, facet.name());
+            tagCodes.codes(facet).forEach(code -> ref(dict, code));
+        }
+        for (int i = 0; i < keywordIndex.size(); i++) ref(dict, keywordIndex.haystack(i));
+
+        // 2) 임시 파일에 기록
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                writeBody(out, fp, dict, items, tagCodes, keywordIndex);
+            }
+
+            // 3) 교체
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void writeBody(DataOutputStream out, Fingerprint fp, Map<String, Integer> dict,
+                                  List<CatalogItem> items,
+                                  CatalogTagCodes tagCodes, CatalogKeywordIndex keywordIndex) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        writeString(out, fp.source());
+        out.writeLong(fp.length());
+        out.writeLong(fp.lastModified());
+
+        // 문자열 사전
+        out.writeInt(dict.size());
+        for (String s : dict.keySet()) writeString(out, s);
+
+        // 태그 코드 사전 (비트 위치 순)
+        out.writeInt(CatalogFacet.values().length);
+        for (CatalogFacet facet : CatalogFacet.values()) {
+            out.writeInt(dict.get(facet.name()));
+            List<String> codes = tagCodes.codes(facet);
+            out.writeInt(codes.size());
+            for (String code : codes) out.writeInt(dict.get(code));
+        }
+
+        // 항목
+        out.writeInt(items.size());
+        for (CatalogItem item : items) {
+            out.writeLong(item.id());
+            for (String s : stringsOf(item)) out.writeInt(s != null ? dict.get(s) : NULL_REF);
+            out.writeLong(item.lifecycles());
+            out.writeLong(item.households());
+            out.writeLong(item.interests());
+            out.writeInt(item.startDay());
+            out.writeInt(item.endDay());
+            out.writeInt(item.minAge());
+            out.writeInt(item.maxAge());
+            for (List<String> tags : tagsOf(item)) writeTags(out, dict, tags);
+            out.writeInt(item.startDate() != null ? dict.get(item.startDate()) : NULL_REF);
+            out.writeInt(item.endDate() != null ? dict.get(item.endDate()) : NULL_REF);
+        }
+
+        // 키워드 색인
+        out.writeInt(keywordIndex.size());
+        for (int i = 0; i < keywordIndex.size(); i++) {
+            out.writeInt(dict.get(keywordIndex.haystack(i)));
+            out.writeInt(keywordIndex.nameEnd(i));
+            out.writeInt(keywordIndex.descEnd(i));
+        }
+        writePostings(out, keywordIndex.unigrams());
+        writePostings(out, keywordIndex.bigrams());
+
+        out.writeInt(END);
+    }
+
+    /**
+     * 스냅샷 복원
+     * @param expected 현재 원본 지문 (다르면 무효)
+     * @return 복원 결과, 파일이 없거나 포맷 버전/지문이 다르면 null
+     * @throws IOException 읽기 실패 또는 손상된 파일 (메모리 부족 포함, 호출자는 JSON으로 폴백)
+     */
+    public static Contents read(Path file, Fingerprint expected) throws IOException {
+        if (!Files.isRegularFile(file)) return null;
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE) return null;
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            try {
+                return readBody(buf, expected);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException
+                     | NegativeArraySizeException | IllegalArgumentException e) {
+                throw new IOException("corrupt catalog snapshot: " + file, e);
+            } catch (OutOfMemoryError e) {
+                throw new IOException("catalog snapshot too large to restore: " + file, e);
+            }
+        }
+    }
+
+    private static Contents readBody(ByteBuffer buf, Fingerprint expected) throws IOException {
+        // 1) 헤더 / 지문 확인
+        if (buf.remaining() < 8 || buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION) return null;
+        Fingerprint fp = new Fingerprint(readString(buf), buf.getLong(), buf.getLong());
+        if (!fp.equals(expected)) return null;
+
+        // 2) 문자열 사전
+        String[] dict = new String[count(buf, Integer.BYTES)];
+        for (int i = 0; i < dict.length; i++) dict[i] = readString(buf);
+
+        // 3) 태그 코드 사전
+        int facets = count(buf, 2 * Integer.BYTES);
+        Map<CatalogFacet, List<String>> codes = new EnumMap<>(CatalogFacet.class);
+        for (int f = 0; f < facets; f++) {
+            CatalogFacet facet = CatalogFacet.valueOf(dict[buf.getInt()]);
+            String[] byBit = new String[count(buf, Integer.BYTES)];
+            for (int b = 0; b < byBit.length; b++) byBit[b] = dict[buf.getInt()];
+            codes.put(facet, List.of(byBit));
+        }
+        CatalogTagCodes tagCodes = CatalogTagCodes.of(codes);
+
+        // 4) 항목
+        int n = count(buf, MIN_ITEM_BYTES);
+        List<CatalogItem> items = new ArrayList<>(n);
+        Map<List<String>, List<String>> tagLists = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            items.add(new CatalogItem(
+                    buf.getLong(),
+                    str(dict, buf.getInt()), str(dict, buf.getInt()), str(dict, buf.getInt()),
+                    str(dict, buf.getInt()), str(dict, buf.getInt()), str(dict, buf.getInt()),
+                    str(dict, buf.getInt()),
+                    str(dict, buf.getInt()), str(dict, buf.getInt()),
+                    gender(str(dict, buf.getInt())),
+                    buf.getLong(), buf.getLong(), buf.getLong(),
+                    buf.getInt(), buf.getInt(),
+                    buf.getInt(), buf.getInt(),
+                    readTags(buf, dict, tagLists), readTags(buf, dict, tagLists), readTags(buf, dict, tagLists),
+                    str(dict, buf.getInt()), str(dict, buf.getInt())
+            ));
+        }
+
+        // 5) 키워드 색인
+        String[] haystacks = new String[count(buf, 3 * Integer.BYTES)];
+        int[] nameEnds = new int[haystacks.length];
+        int[] descEnds = new int[haystacks.length];
+        for (int i = 0; i < haystacks.length; i++) {
+            haystacks[i] = dict[buf.getInt()];
+            nameEnds[i] = buf.getInt();
+            descEnds[i] = buf.getInt();
+        }
+        CatalogKeywordIndex keywordIndex = new CatalogKeywordIndex(haystacks, nameEnds, descEnds,
+                readPostings(buf), readPostings(buf));
+
+        // 6) 꼬리/정합성 확인
+        if (buf.getInt() != END || haystacks.length != n) {
+            throw new IOException("catalog snapshot is inconsistent");
+        }
+        return new Contents(Collections.unmodifiableList(items), tagCodes, keywordIndex);
+    }
+
+    /** 항목의 문자열 필드 (직렬화 순서 고정) */
+    private static String[] stringsOf(CatalogItem item) {
+        return new String[] {
+                item.welfareName(), item.description(), item.department(),
+                item.supportCycle(), item.supplyType(), item.contact(), item.url(),
+                item.regionDo(), item.regionSi(),
+                item.gender() == null ? null : item.gender().name()
+        };
+    }
+
+    /** 항목의 원본 태그 목록 (직렬화 순서 고정) */
+    private static List<List<String>> tagsOf(CatalogItem item) {
+        return Arrays.asList(item.lifecycleTags(), item.householdTags(), item.interestTags());
+    }
+
+    private static void writeTags(DataOutputStream out, Map<String, Integer> dict, List<String> tags)
+            throws IOException {
+        if (tags == null) {
+            out.writeInt(NULL_REF);
+            return;
+        }
+        out.writeInt(tags.size());
+        for (String tag : tags) out.writeInt(dict.get(tag));
+    }
+
+    /** 원본 태그 목록 복원 (같은 목록은 공유) */
+    private static List<String> readTags(ByteBuffer buf, String[] dict, Map<List<String>, List<String>> shared)
+            throws IOException {
+        int size = buf.getInt();
+        if (size == NULL_REF) return null;
+        String[] tags = new String[checked(buf, size, Integer.BYTES)];
+        for (int t = 0; t < size; t++) tags[t] = dict[buf.getInt()];
+        return shared.computeIfAbsent(List.of(tags), l -> l);
+    }
+
+    /** 저장된 성별 이름 → 성별 (null 유지) */
+    private static Gender gender(String name) {
+        return name == null ? null : Gender.valueOf(name);
+    }
+
+    private static void ref(Map<String, Integer> dict, String s) {
+        if (s != null) dict.putIfAbsent(s, dict.size());
+    }
+
+    private static String str(String[] dict, int ref) {
+        return ref == NULL_REF ? null : dict[ref];
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buf) throws IOException {
+        byte[] bytes = new byte[count(buf, 1)];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writePostings(DataOutputStream out, Map<Integer, int[]> postings) throws IOException {
+        out.writeInt(postings.size());
+        for (Map.Entry<Integer, int[]> e : postings.entrySet()) {
+            out.writeInt(e.getKey());
+            out.writeInt(e.getValue().length);
+            for (int v : e.getValue()) out.writeInt(v);
+        }
+    }
+
+    private static Map<Integer, int[]> readPostings(ByteBuffer buf) throws IOException {
+        int count = count(buf, 2 * Integer.BYTES);
+        Map<Integer, int[]> out = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            int key = buf.getInt();
+            int[] posting = new int[count(buf, Integer.BYTES)];
+            buf.asIntBuffer().get(posting);
+            buf.position(buf.position() + posting.length * Integer.BYTES);
+            out.put(key, posting);
+        }
+        return Collections.unmodifiableMap(out);
+    }
+
+    /**
+     * 개수/길이 읽기 + 상한 확인
+     * @param elementBytes 원소 하나가 차지하는 최소 바이트 수
+     * @throws IOException 음수이거나 남은 바이트로 담을 수 없는 값 (손상된 파일)
+     */
+    private static int count(ByteBuffer buf, int elementBytes) throws IOException {
+        return checked(buf, buf.getInt(), elementBytes);
+    }
+
+    private static int checked(ByteBuffer buf, int count, int elementBytes) throws IOException {
+        if (count < 0 || (long) count * elementBytes > buf.remaining()) {
+            throw new IOException("catalog snapshot length out of range: " + count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,163 @@
+package com.benefitmap.backend.catalog.index;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 카탈로그 날짜 색인 (불변)
+ * - 순번별 신청 시작일/종료일을 epoch-day int로 보관 (검색/정렬 시 문자열 파싱 없음)
+ * - 날짜가 없거나 ISO(yyyy-MM-dd)가 아니면 NO_DATE
+ * - 기간 질의용으로 시작일/마감일 기준 정렬 배열(키 + 순번)을 함께 보관 → 이분 탐색으로 범위 추출
+ *   · 시작일 없음 = 무한 과거, 마감일 없음 = 무한 미래 (상시 신청)
+ */
+public final class CatalogDateIndex {
+
+    /** 날짜 없음 */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    /** 질의 범위 끝 (열린 구간) */
+    public static final int MIN_DAY = Integer.MIN_VALUE;
+    public static final int MAX_DAY = Integer.MAX_VALUE;
+
+    private final int[] startDays;
+    private final int[] endDays;
+
+    /** 시작일 오름차순 키(없음 = MIN_DAY) / 순번 */
+    private final int[] startKeys;
+    private final int[] byStart;
+
+    /** 마감일 오름차순 키(없음 = MAX_DAY) / 순번 */
+    private final int[] endKeys;
+    private final int[] byEnd;
+
+    private CatalogDateIndex(int[] startDays, int[] endDays) {
+        this.startDays = startDays;
+        this.endDays = endDays;
+        this.startKeys = new int[startDays.length];
+        this.byStart = new int[startDays.length];
+        sortBy(startDays, MIN_DAY, startKeys, byStart);
+        this.endKeys = new int[endDays.length];
+        this.byEnd = new int[endDays.length];
+        sortBy(endDays, MAX_DAY, endKeys, byEnd);
+    }
+
+    /** 빈 색인 (로드 실패 시 사용) */
+    public static CatalogDateIndex empty() {
+        return new Builder().build();
+    }
+
+    /** 항목 목록으로 색인 생성 (리스트 순서 = 순번) */
+    public static CatalogDateIndex build(List<CatalogItem> items) {
+        Builder b = new Builder();
+        items.forEach(b::add);
+        return b.build();
+    }
+
+    /** ISO 날짜 문자열 → epoch-day (없거나 형식 오류면 NO_DATE) */
+    public static int epochDay(String date) {
+        if (date == null || date.isBlank()) return NO_DATE;
+        try {
+            return Math.toIntExact(LocalDate.parse(date).toEpochDay());
+        } catch (DateTimeParseException | ArithmeticException e) {
+            return NO_DATE;
+        }
+    }
+
+    public int size() {
+        return endDays.length;
+    }
+
+    /** 순번의 시작일 (epoch-day 또는 NO_DATE) */
+    public int startDay(int ordinal) {
+        return startDays[ordinal];
+    }
+
+    /** 순번의 종료일 (epoch-day 또는 NO_DATE) */
+    public int endDay(int ordinal) {
+        return endDays[ordinal];
+    }
+
+    /**
+     * 시작일이 [from, to]인 항목 (시작일 없음은 MIN_DAY로 취급)
+     * @return 새 비트셋
+     */
+    public long[] startingBetween(int from, int to) {
+        return range(startKeys, byStart, from, to);
+    }
+
+    /**
+     * 마감일이 [from, to]인 항목 (마감일 없음은 MAX_DAY로 취급)
+     * @return 새 비트셋
+     */
+    public long[] endingBetween(int from, int to) {
+        return range(endKeys, byEnd, from, to);
+    }
+
+    /** 정렬 키에서 [from, to] 구간의 순번을 비트셋으로 */
+    private long[] range(int[] keys, int[] ordinals, int from, int to) {
+        long[] out = Bitmaps.empty(keys.length);
+        if (from > to) return out;
+        for (int p = lowerBound(keys, from), end = upperBound(keys, to); p < end; p++) {
+            Bitmaps.set(out, ordinals[p]);
+        }
+        return out;
+    }
+
+    /** key 이상 첫 위치 */
+    private static int lowerBound(int[] keys, int key) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** key 초과 첫 위치 */
+    private static int upperBound(int[] keys, int key) {
+        return key == MAX_DAY ? keys.length : lowerBound(keys, key + 1);
+    }
+
+    /** 날짜 배열을 (키, 순번)으로 정렬 (NO_DATE는 missing 키로, 동일 키는 순번 순) */
+    private static void sortBy(int[] days, int missing, int[] keys, int[] ordinals) {
+        long[] packed = new long[days.length];
+        for (int i = 0; i < days.length; i++) {
+            int key = days[i] == NO_DATE ? missing : days[i];
+            packed[i] = ((long) key << 32) | i;
+        }
+        Arrays.sort(packed);
+        for (int p = 0; p < packed.length; p++) {
+            keys[p] = (int) (packed[p] >> 32);
+            ordinals[p] = (int) packed[p];
+        }
+    }
+
+    /**
+     * 점진 빌더
+     * - 항목을 순서대로 add (호출 순서 = 순번)
+     */
+    public static final class Builder {
+
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int size;
+
+        public Builder add(CatalogItem item) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            starts[size] = item.startDay();
+            ends[size] = item.endDay();
+            size++;
+            return this;
+        }
+
+        public CatalogDateIndex build() {
+            return new CatalogDateIndex(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.benefitmap.backend.catalog.index;
+
+import com.benefitmap.backend.user.enums.Gender;
+
+import java.util.*;
+
+/**
+ * 카탈로그 자격(나이/성별) 색인 (불변)
+ * - 나이: 0..MAX_AGE 1세 단위 버킷마다 해당 나이가 대상인 항목 비트셋 보관
+ *   · 항목의 minAge/maxAge가 없으면 각각 0 / MAX_AGE로 보고, MAX_AGE 이상은 MAX_AGE 버킷으로 취급
+ * - 성별: 성별마다 해당 성별이 대상인 항목(성별 제한 없음 포함) 비트셋 보관
+ * - 사용자 자격 비트셋 = 나이 버킷 ∧ 성별 비트셋 (항목별 분기 없이 배열 조회 + word AND)
+ */
+public final class CatalogEligibilityIndex {
+
+    /** 나이 미지정 */
+    public static final int NO_AGE = -1;
+
+    /** 마지막 나이 버킷 (이 나이 이상은 모두 같은 버킷) */
+    public static final int MAX_AGE = 120;
+
+    /** 색인된 항목 수 */
+    private final int size;
+
+    /** 나이 → 대상 항목 (길이 MAX_AGE + 1) */
+    private final long[][] byAge;
+
+    /** 성별 → 대상 항목 */
+    private final Map<Gender, long[]> byGender;
+
+    private CatalogEligibilityIndex(int size, long[][] byAge, Map<Gender, long[]> byGender) {
+        this.size = size;
+        this.byAge = byAge;
+        this.byGender = byGender;
+    }
+
+    /** 빈 색인 (로드 실패 시 사용) */
+    public static CatalogEligibilityIndex empty() {
+        return build(List.of());
+    }
+
+    /** 항목 목록으로 색인 생성 (리스트 순서 = 순번) */
+    public static CatalogEligibilityIndex build(List<CatalogItem> items) {
+        int size = items.size();
+        long[][] byAge = new long[MAX_AGE + 1][];
+        for (int a = 0; a <= MAX_AGE; a++) byAge[a] = Bitmaps.empty(size);
+        Map<Gender, long[]> byGender = new EnumMap<>(Gender.class);
+        for (Gender g : Gender.values()) byGender.put(g, Bitmaps.empty(size));
+
+        for (int i = 0; i < size; i++) {
+            CatalogItem item = items.get(i);
+            int from = item.minAge() == NO_AGE ? 0 : Math.min(item.minAge(), MAX_AGE);
+            int to = item.maxAge() == NO_AGE ? MAX_AGE : Math.min(item.maxAge(), MAX_AGE);
+            for (int a = from; a <= to; a++) Bitmaps.set(byAge[a], i);
+            for (Gender g : Gender.values()) {
+                if (item.gender() == null || item.gender() == g) Bitmaps.set(byGender.get(g), i);
+            }
+        }
+        return new CatalogEligibilityIndex(size, byAge, Collections.unmodifiableMap(byGender));
+    }
+
+    /** 항목 나이 경계 정규화: null/음수는 NO_AGE */
+    public static int age(Integer age) {
+        return age == null || age < 0 ? NO_AGE : age;
+    }
+
+    /** 성별 정규화: 대소문자 무시, 없거나 모르는 값은 null(제한 없음) */
+    public static Gender gender(String gender) {
+        if (gender == null) return null;
+        for (Gender g : Gender.values()) {
+            if (g.name().equalsIgnoreCase(gender.strip())) return g;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 사용자 자격 대상 항목
+     * @param age    나이 (null이면 나이 무관, MAX_AGE 초과는 MAX_AGE로 취급)
+     * @param gender 성별 (null이면 성별 무관)
+     * @return 새 비트셋, 둘 다 없으면 null(조건 없음)
+     * @throws IllegalArgumentException 음수 나이
+     */
+    public long[] eligible(Integer age, Gender gender) {
+        if (age != null && age < 0) throw new IllegalArgumentException("age must be >= 0");
+        if (age == null && gender == null) return null;
+
+        long[] out = age != null ? byAge[Math.min(age, MAX_AGE)].clone() : byGender.get(gender).clone();
+        if (age != null && gender != null) Bitmaps.and(out, byGender.get(gender));
+        return out;
+    }
+}
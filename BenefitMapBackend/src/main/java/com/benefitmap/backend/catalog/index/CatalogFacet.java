@@ -0,0 +1,13 @@
+package com.benefitmap.backend.catalog.index;
+
+/**
+ * 카탈로그 태그 패싯
+ * - LIFECYCLE : 생애주기
+ * - HOUSEHOLD : 가구상황
+ * - INTEREST  : 관심주제
+ */
+public enum CatalogFacet {
+    LIFECYCLE,
+    HOUSEHOLD,
+    INTEREST
+}
@@ -0,0 +1,264 @@
+package com.benefitmap.backend.catalog.index;
+
+import java.util.*;
+
+/**
+ * 카탈로그 복지명 초성/오타 허용 색인 (불변)
+ * - 초성: 순번별 복지명 초성 투영(한글 음절 → 초성 자모, 그 밖의 글자는 소문자 그대로, 공백 제거)을 보관
+ *   · 초성 2-gram → 항목 순번 posting으로 후보를 좁힌 뒤 투영 문자열 contains로 검증
+ * - 오타: 복지명을 단어로 나눠 단어 사전을 만들고 symmetric delete 방식으로 색인
+ *   · 단어마다 글자를 최대 maxDistance개 지운 변형 → 단어 번호 (쿼리도 같은 방식으로 변형해 조회)
+ *   · 변형이 겹치는 단어만 편집 거리(인접 전치 포함)를 계산해 확인하므로 항목 수와 무관하게 조회 비용이 작다.
+ *   · 허용 거리는 짧은 단어일수록 작게 (3~5자 1, 6~12자 2, 그 밖은 정확히 같은 단어만)
+ * - 적재 시 한 번 만들고 바이너리 스냅샷에는 저장하지 않음 (항목에서 다시 생성)
+ */
+public final class CatalogFuzzyIndex {
+
+    /** 오타 허용 최대 편집 거리 */
+    public static final int MAX_DISTANCE = 2;
+
+    /** 오타 허용 대상 단어 길이 (짧으면 엉뚱한 단어가 걸리고, 길면 변형 수가 많아짐) */
+    private static final int MIN_TERM_LENGTH = 3;
+    private static final int MAX_TERM_LENGTH = 12;
+
+    /** 한글 음절 범위와 초성 (유니코드 음절 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성) */
+    private static final char SYLLABLE_FIRST = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    /** 순번별 복지명 초성 투영 */
+    private final String[] chosungs;
+
+    /** 초성 투영 2-gram(상위 16bit = 앞 글자, 하위 16bit = 뒷 글자) → posting */
+    private final Map<Integer, int[]> chosungBigrams;
+
+    /** 단어 번호 → 단어 */
+    private final String[] terms;
+
+    /** 단어 번호 → 그 단어가 복지명에 있는 항목 순번 (오름차순) */
+    private final int[][] termPostings;
+
+    /** 삭제 변형(단어 자신 포함) → 단어 번호 (오름차순) */
+    private final Map<String, int[]> deletes;
+
+    private CatalogFuzzyIndex(String[] chosungs, Map<Integer, int[]> chosungBigrams,
+                              String[] terms, int[][] termPostings, Map<String, int[]> deletes) {
+        this.chosungs = chosungs;
+        this.chosungBigrams = chosungBigrams;
+        this.terms = terms;
+        this.termPostings = termPostings;
+        this.deletes = deletes;
+    }
+
+    /** 빈 색인 (로드 실패 시 사용) */
+    public static CatalogFuzzyIndex empty() {
+        return build(List.of());
+    }
+
+    /** 항목 목록으로 색인 생성 (리스트 순서 = 순번) */
+    public static CatalogFuzzyIndex build(List<CatalogItem> items) {
+        int size = items.size();
+        String[] chosungs = new String[size];
+        Map<Integer, CatalogKeywordIndex.IntBuf> bigrams = new HashMap<>();
+        Map<String, Integer> termIds = new HashMap<>();
+        List<CatalogKeywordIndex.IntBuf> postings = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            String name = nameOf(items.get(i));
+
+            // 1) 초성 투영 + 2-gram posting
+            String cho = chosungOf(name);
+            chosungs[i] = cho;
+            for (int p = 0; p + 1 < cho.length(); p++) {
+                bigrams.computeIfAbsent(bigram(cho.charAt(p), cho.charAt(p + 1)),
+                        k -> new CatalogKeywordIndex.IntBuf()).addOnce(i);
+            }
+
+            // 2) 단어 사전 + 단어별 posting
+            for (String term : termsOf(name)) {
+                int id = termIds.computeIfAbsent(term, t -> {
+                    postings.add(new CatalogKeywordIndex.IntBuf());
+                    return postings.size() - 1;
+                });
+                postings.get(id).addOnce(i);
+            }
+        }
+
+        // 3) 단어 번호 순으로 삭제 변형 색인
+        String[] terms = new String[termIds.size()];
+        termIds.forEach((term, id) -> terms[id] = term);
+        Map<String, CatalogKeywordIndex.IntBuf> deleteBufs = new HashMap<>();
+        for (int id = 0; id < terms.length; id++) {
+            for (String variant : deletesOf(terms[id], maxDistance(terms[id].length()))) {
+                deleteBufs.computeIfAbsent(variant, k -> new CatalogKeywordIndex.IntBuf()).addOnce(id);
+            }
+        }
+        int[][] termPostings = new int[terms.length][];
+        for (int id = 0; id < terms.length; id++) termPostings[id] = postings.get(id).toArray();
+        Map<String, int[]> deletes = new HashMap<>(deleteBufs.size() * 2);
+        deleteBufs.forEach((k, v) -> deletes.put(k, v.toArray()));
+
+        return new CatalogFuzzyIndex(chosungs, CatalogKeywordIndex.freeze(bigrams), terms, termPostings,
+                Collections.unmodifiableMap(deletes));
+    }
+
+    private static String nameOf(CatalogItem item) {
+        return item.welfareName() == null ? "" : item.welfareName().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 초성 투영: 한글 음절은 초성 자모로, 공백은 제거, 그 밖의 글자는 그대로
+     * @param s 소문자로 정규화된 문자열
+     */
+    public static String chosungOf(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int p = 0; p < s.length(); p++) {
+            char c = s.charAt(p);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                sb.append(CHOSUNG.charAt((c - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSUNG));
+            } else if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /** 초성으로만 이루어진 쿼리인지 (공백 무시, 초성 2자 이상) */
+    public static boolean isChosungQuery(String keyword) {
+        int count = 0;
+        for (int p = 0; p < keyword.length(); p++) {
+            char c = keyword.charAt(p);
+            if (Character.isWhitespace(c)) continue;
+            if (CHOSUNG.indexOf(c) < 0) return false;
+            count++;
+        }
+        return count >= 2;
+    }
+
+    /** 허용 편집 거리 (단어 길이 기준) */
+    static int maxDistance(int length) {
+        if (length < MIN_TERM_LENGTH || length > MAX_TERM_LENGTH) return 0;
+        return length >= 6 ? MAX_DISTANCE : 1;
+    }
+
+    public int size() {
+        return chosungs.length;
+    }
+
+    /**
+     * 초성 또는 오타 허용 일치 항목
+     * - 초성으로만 이루어진 키워드는 복지명 초성 투영에서 부분 일치
+     * - 그 밖에는 키워드의 단어마다 복지명 단어 중 허용 거리 안의 단어가 있는 항목 (단어 간 AND)
+     * @param keyword 정규화된(소문자) 키워드
+     * @return 일치 항목 비트셋 (새 배열, 없으면 비어 있음)
+     */
+    public long[] match(String keyword) {
+        return isChosungQuery(keyword) ? matchChosung(chosungOf(keyword)) : matchTypo(keyword);
+    }
+
+    /** 초성 투영 부분 일치 (2-gram 후보 → contains 검증) */
+    private long[] matchChosung(String query) {
+        long[] out = Bitmaps.empty(chosungs.length);
+        int[] acc = null;
+        for (int p = 0; p + 1 < query.length() && (acc == null || acc.length > 0); p++) {
+            int[] posting = chosungBigrams.getOrDefault(bigram(query.charAt(p), query.charAt(p + 1)), NO_POSTINGS);
+            acc = acc == null ? posting : CatalogKeywordIndex.intersect(acc, posting);
+        }
+        if (acc == null) return out;
+        for (int ord : acc) {
+            if (chosungs[ord].contains(query)) Bitmaps.set(out, ord);
+        }
+        return out;
+    }
+
+    /** 단어별 오타 허용 일치의 AND */
+    private long[] matchTypo(String keyword) {
+        long[] out = null;
+        for (String word : termsOf(keyword)) {
+            long[] bits = matchTerm(word);
+            if (out == null) out = bits;
+            else Bitmaps.and(out, bits);
+        }
+        return out != null ? out : Bitmaps.empty(chosungs.length);
+    }
+
+    /** 단어 하나: 삭제 변형 조회 → 후보 단어 거리 확인 → 단어 posting 합집합 */
+    private long[] matchTerm(String word) {
+        long[] out = Bitmaps.empty(chosungs.length);
+        int limit = maxDistance(word.length());
+        Set<Integer> seen = new HashSet<>();
+        for (String variant : deletesOf(word, limit)) {
+            for (int id : deletes.getOrDefault(variant, NO_POSTINGS)) {
+                if (!seen.add(id)) continue;
+                String term = terms[id];
+                if (distance(word, term, Math.min(limit, maxDistance(term.length()))) < 0) continue;
+                for (int ord : termPostings[id]) Bitmaps.set(out, ord);
+            }
+        }
+        return out;
+    }
+
+    /** 단어 분리: 글자/숫자가 아닌 문자 기준 */
+    private static List<String> termsOf(String s) {
+        List<String> out = new ArrayList<>();
+        int start = -1;
+        for (int p = 0; p <= s.length(); p++) {
+            boolean letter = p < s.length() && Character.isLetterOrDigit(s.charAt(p));
+            if (letter && start < 0) start = p;
+            else if (!letter && start >= 0) {
+                out.add(s.substring(start, p));
+                start = -1;
+            }
+        }
+        return out;
+    }
+
+    /** 글자를 0~depth개 지운 변형 전체 (자신 포함, 중복 제거) */
+    private static Set<String> deletesOf(String term, int depth) {
+        Set<String> out = new HashSet<>();
+        out.add(term);
+        Set<String> frontier = Set.of(term);
+        for (int d = 0; d < depth; d++) {
+            Set<String> next = new HashSet<>();
+            for (String s : frontier) {
+                if (s.length() <= 1) continue;
+                for (int p = 0; p < s.length(); p++) {
+                    String variant = s.substring(0, p) + s.substring(p + 1);
+                    if (out.add(variant)) next.add(variant);
+                }
+            }
+            frontier = next;
+        }
+        return out;
+    }
+
+    /**
+     * 편집 거리 (삽입/삭제/치환/인접 전치)
+     * - 단어가 짧아(MAX_TERM_LENGTH 이하) 전체 표를 채워도 비용이 작다.
+     * @return 거리, limit을 넘으면 -1
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) return -1;
+        int n = a.length(), m = b.length();
+        int[] prev2 = new int[m + 1], prev = new int[m + 1], cur = new int[m + 1];
+        for (int j = 0; j <= m; j++) prev[j] = j;
+        for (int i = 1; i <= n; i++) {
+            cur[0] = i;
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, prev2[j - 2] + 1);
+                }
+                cur[j] = d;
+            }
+            int[] t = prev2; prev2 = prev; prev = cur; cur = t;
+        }
+        return prev[m] <= limit ? prev[m] : -1;
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+}
@@ -0,0 +1,128 @@
+package com.benefitmap.backend.catalog.index;
+
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.user.enums.Gender;
+
+import java.util.List;
+
+/**
+ * 카탈로그 내부 항목 (불변)
+ * - 적재 시 WelfareItemDto를 한 번 변환해 스냅샷에 보관
+ * - 날짜: epoch-day int (없거나 ISO가 아니면 CatalogDateIndex.NO_DATE)
+ * - 태그: 패싯별 long 마스크 (비트 위치는 스냅샷의 CatalogTagCodes 기준)
+ * - 지역: 대상 시/도, 시/군/구 (앞뒤 공백 제거, 없으면 null, 시/도 없이 시/군/구만 있으면 전국으로 취급)
+ * - 자격: 대상 나이 범위(없으면 CatalogEligibilityIndex.NO_AGE), 대상 성별(모르는 값은 제한 없음)
+ * - 공개 DTO는 응답 직렬화 시에만 만든다. (toDto)
+ *   · 태그 목록과 신청 기간은 원본 값(순서/대소문자/날짜 문자열 그대로)을 따로 보관해 응답에 사용
+ *     (마스크/epoch-day는 검색 전용 정규화 값이라 원본과 다를 수 있음: 대문자, 중복 제거, ISO가 아닌 날짜 = 없음)
+ *
+ * @param id         고유 ID (없으면 NO_ID)
+ * @param regionDo   대상 시/도 (null = 전국)
+ * @param regionSi   대상 시/군/구 (null = 시/도 전체)
+ * @param gender     대상 성별 (null = 제한 없음)
+ * @param lifecycles 생애주기 마스크
+ * @param households 가구상황 마스크
+ * @param interests  관심주제 마스크
+ * @param startDay   신청 시작일 (epoch-day)
+ * @param endDay     신청 마감일 (epoch-day)
+ * @param minAge     대상 최소 나이 (포함)
+ * @param maxAge     대상 최대 나이 (포함)
+ * @param lifecycleTags 원본 생애주기 태그 목록 (응답용)
+ * @param householdTags 원본 가구상황 태그 목록 (응답용)
+ * @param interestTags  원본 관심주제 태그 목록 (응답용)
+ * @param startDate     원본 신청 시작일 문자열 (응답용)
+ * @param endDate       원본 신청 마감일 문자열 (응답용)
+ */
+public record CatalogItem(
+        long id,
+        String welfareName,
+        String description,
+        String department,
+        String supportCycle,
+        String supplyType,
+        String contact,
+        String url,
+        String regionDo,
+        String regionSi,
+        Gender gender,
+        long lifecycles,
+        long households,
+        long interests,
+        int startDay,
+        int endDay,
+        int minAge,
+        int maxAge,
+        List<String> lifecycleTags,
+        List<String> householdTags,
+        List<String> interestTags,
+        String startDate,
+        String endDate
+) {
+
+    /** ID 없음 */
+    public static final long NO_ID = Long.MIN_VALUE;
+
+    /**
+     * DTO → 내부 항목
+     * @param codes 태그 코드 사전 빌더 (처음 보는 코드는 비트 부여)
+     * @throws IllegalArgumentException 패싯 코드가 CatalogTagCodes.MAX_CODES를 넘는 경우
+     */
+    public static CatalogItem of(WelfareItemDto dto, CatalogTagCodes.Builder codes) {
+        String regionDo = CatalogRegionIndex.normalize(dto.regionDo());
+        return new CatalogItem(
+                dto.id() != null ? dto.id() : NO_ID,
+                dto.welfareName(), dto.description(), dto.department(),
+                dto.supportCycle(), dto.supplyType(), dto.contact(), dto.url(),
+                regionDo,
+                regionDo == null ? null : CatalogRegionIndex.normalize(dto.regionSi()),
+                CatalogEligibilityIndex.gender(dto.gender()),
+                codes.mask(CatalogFacet.LIFECYCLE, dto.lifecycles()),
+                codes.mask(CatalogFacet.HOUSEHOLD, dto.households()),
+                codes.mask(CatalogFacet.INTEREST, dto.interests()),
+                CatalogDateIndex.epochDay(dto.startDate()),
+                CatalogDateIndex.epochDay(dto.endDate()),
+                CatalogEligibilityIndex.age(dto.minAge()),
+                CatalogEligibilityIndex.age(dto.maxAge()),
+                tags(dto.lifecycles()), tags(dto.households()), tags(dto.interests()),
+                dto.startDate(), dto.endDate()
+        );
+    }
+
+    /** 원본 태그 목록 (불변 사본, 리더가 만든 불변 목록은 그대로 공유) */
+    private static List<String> tags(List<String> tags) {
+        return tags == null ? null : List.copyOf(tags);
+    }
+
+    /** 패싯의 태그 마스크 */
+    public long mask(CatalogFacet facet) {
+        return switch (facet) {
+            case LIFECYCLE -> lifecycles;
+            case HOUSEHOLD -> households;
+            case INTEREST  -> interests;
+        };
+    }
+
+    /** 선택 코드 마스크 중 하나라도 가지고 있는지 (패싯 내부 OR) */
+    public boolean matches(CatalogFacet facet, long selected) {
+        return (mask(facet) & selected) != 0;
+    }
+
+    /** 내부 항목 → 공개 DTO (태그/신청 기간은 원본 값) */
+    public WelfareItemDto toDto() {
+        return new WelfareItemDto(
+                id == NO_ID ? null : id,
+                welfareName, description, department, supportCycle, supplyType, contact, url,
+                lifecycleTags, householdTags, interestTags,
+                startDate, endDate,
+                regionDo,
+                regionSi,
+                age(minAge),
+                age(maxAge),
+                gender == null ? null : gender.name()
+        );
+    }
+
+    private static Integer age(int age) {
+        return age == CatalogEligibilityIndex.NO_AGE ? null : age;
+    }
+}
@@ -0,0 +1,73 @@
+package com.benefitmap.backend.catalog.index;
+
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.List;
+
+/**
+ * 카탈로그 항목 JSON 인코딩 (불변)
+ * - 순번별 공개 DTO(CatalogItem.toDto)의 JSON(UTF-8) 바이트를 적재 시 한 번만 만들어 보관
+ * - 응답 시 항목을 다시 직렬화하지 않고 바이트를 그대로 이어 붙인다. (CatalogPageJsonConverter)
+ * - 인코딩은 MVC 응답과 같은 ObjectMapper(Spring Boot 구성: spring.jackson.* 설정, 모듈 반영)로 만든 writer를 받아 사용
+ *   · 다른 매퍼를 쓰면 미리 만든 바이트가 나머지 API 응답과 달라질 수 있음 (CatalogDataLoader가 주입받아 전달)
+ */
+public final class CatalogItemJson {
+
+    /** 순번별 JSON 바이트 */
+    private final byte[][] encoded;
+
+    private CatalogItemJson(byte[][] encoded) {
+        this.encoded = encoded;
+    }
+
+    /** 빈 인코딩 (로드 실패 시 사용) */
+    public static CatalogItemJson empty() {
+        return new CatalogItemJson(new byte[0][]);
+    }
+
+    /** 항목 DTO writer (응답과 같은 ObjectMapper로 만들 것) */
+    public static ObjectWriter writer(ObjectMapper mapper) {
+        return mapper.writerFor(WelfareItemDto.class);
+    }
+
+    /**
+     * 항목 목록으로 생성 (리스트 순서 = 순번)
+     * @param writer 항목 DTO writer (writer(ObjectMapper))
+     */
+    public static CatalogItemJson build(List<CatalogItem> items, ObjectWriter writer) {
+        byte[][] encoded = new byte[items.size()][];
+        for (int i = 0; i < encoded.length; i++) encoded[i] = encode(items.get(i).toDto(), writer);
+        return new CatalogItemJson(encoded);
+    }
+
+    /**
+     * 항목 하나를 JSON 바이트로 인코딩
+     * @throws IllegalStateException 직렬화 실패 (문자열/목록뿐이라 정상 데이터에서는 발생하지 않음)
+     */
+    public static byte[] encode(WelfareItemDto item, ObjectWriter writer) {
+        try {
+            return writer.writeValueAsBytes(item);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("catalog item " + item.id() + " not serializable", e);
+        }
+    }
+
+    public int size() {
+        return encoded.length;
+    }
+
+    /** 순번의 JSON 바이트 (공유 배열이므로 수정 금지) */
+    public byte[] bytes(int ordinal) {
+        return encoded[ordinal];
+    }
+
+    /** 전체 인코딩 크기 (byte) */
+    public long totalBytes() {
+        long total = 0;
+        for (byte[] b : encoded) total += b.length;
+        return total;
+    }
+}
@@ -0,0 +1,298 @@
+package com.benefitmap.backend.catalog.index;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 카탈로그 키워드 n-gram 색인 (불변)
+ * - 항목별 검색 대상 문자열(복지명 + 설명 + 부처)을 소문자로 미리 정규화해 보관
+ * - 문자 단위 1-gram / 2-gram → 항목 순번 posting(오름차순 int[])
+ * - 한글 음절은 UTF-16 한 글자이므로 문자 단위 n-gram으로 부분 일치 후보를 좁힌다.
+ * - 후보는 정규화된 문자열 contains로 최종 검증
+ * - 필드 경계(복지명 끝, 설명 끝)를 함께 보관해 어느 필드에서 일치했는지 판별 (관련도 정렬용)
+ * - 후보가 많으면 검증을 후보 구간별로 병렬 처리 (구간 경계를 비트셋 word 경계에 맞춰 쓰기 충돌 없음)
+ */
+public final class CatalogKeywordIndex {
+
+    /** 일치 필드 비트 */
+    public static final int FIELD_NAME = 1;
+    public static final int FIELD_DESCRIPTION = 2;
+    public static final int FIELD_DEPARTMENT = 4;
+    private static final int ALL_FIELDS = FIELD_NAME | FIELD_DESCRIPTION | FIELD_DEPARTMENT;
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    /** 병렬 검증 시 작업 하나가 맡는 최대 후보 수 */
+    private static final int VERIFY_SEGMENT = 4096;
+
+    /** 순번별 정규화 문자열 */
+    private final String[] haystacks;
+
+    /** 순번별 복지명 끝 위치 (haystack 기준, exclusive) */
+    private final int[] nameEnds;
+
+    /** 순번별 설명 끝 위치 (haystack 기준, exclusive) */
+    private final int[] descEnds;
+
+    /** 1-gram(문자) → posting */
+    private final Map<Integer, int[]> unigrams;
+
+    /** 2-gram(상위 16bit = 앞 글자, 하위 16bit = 뒷 글자) → posting */
+    private final Map<Integer, int[]> bigrams;
+
+    CatalogKeywordIndex(String[] haystacks, int[] nameEnds, int[] descEnds,
+                        Map<Integer, int[]> unigrams, Map<Integer, int[]> bigrams) {
+        this.haystacks = haystacks;
+        this.nameEnds = nameEnds;
+        this.descEnds = descEnds;
+        this.unigrams = unigrams;
+        this.bigrams = bigrams;
+    }
+
+    /** 빈 색인 (로드 실패 시 사용) */
+    public static CatalogKeywordIndex empty() {
+        return new Builder().build();
+    }
+
+    /** 항목 목록으로 색인 생성 (리스트 순서 = 순번) */
+    public static CatalogKeywordIndex build(List<CatalogItem> items) {
+        Builder b = new Builder();
+        items.forEach(b::add);
+        return b.build();
+    }
+
+    /** 검색 대상 문자열 정규화: 복지명 + 설명 + 부처 (소문자) */
+    public static String haystackOf(CatalogItem item) {
+        return lower(item.welfareName()) + " " + lower(item.description()) + " " + lower(item.department());
+    }
+
+    private static String lower(String s) {
+        return s == null ? "" : s.toLowerCase(Locale.ROOT);
+    }
+
+    /** 키워드 정규화: 소문자 */
+    public static String normalize(String keyword) {
+        return keyword.toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return haystacks.length;
+    }
+
+    /** 순번의 정규화 문자열 */
+    public String haystack(int ordinal) {
+        return haystacks[ordinal];
+    }
+
+    /** 필드 경계 (바이너리 스냅샷 직렬화용) */
+    int nameEnd(int ordinal) {
+        return nameEnds[ordinal];
+    }
+
+    int descEnd(int ordinal) {
+        return descEnds[ordinal];
+    }
+
+    /** 원본 posting (바이너리 스냅샷 직렬화용) */
+    Map<Integer, int[]> unigrams() {
+        return unigrams;
+    }
+
+    Map<Integer, int[]> bigrams() {
+        return bigrams;
+    }
+
+    /**
+     * 키워드 부분 일치 항목
+     * @param keyword 정규화된(소문자) 키워드, 비어 있으면 안 됨
+     * @param within  후보 제한 비트셋 (null이면 전체)
+     * @return 일치 항목 비트셋 (새 배열)
+     */
+    public long[] match(String keyword, long[] within) {
+        return match(keyword, within, null);
+    }
+
+    /**
+     * 키워드 부분 일치 항목 (후보 검증 병렬)
+     * @param pool 병렬 검증 풀 (null이거나 후보가 적으면 순차)
+     * @return 일치 항목 비트셋 (새 배열, 순차 결과와 동일)
+     */
+    public long[] match(String keyword, long[] within, ForkJoinPool pool) {
+        long[] out = Bitmaps.empty(haystacks.length);
+        int[] candidates = candidates(keyword);
+        if (pool == null || candidates.length <= VERIFY_SEGMENT) {
+            verify(keyword, within, candidates, 0, candidates.length, out);
+        } else {
+            pool.invoke(new VerifyTask(keyword, within, candidates, 0, candidates.length, out));
+        }
+        return out;
+    }
+
+    /** candidates[from, to) 검증 결과를 out에 기록 */
+    private void verify(String keyword, long[] within, int[] candidates, int from, int to, long[] out) {
+        for (int c = from; c < to; c++) {
+            int ord = candidates[c];
+            if (within != null && !Bitmaps.get(within, ord)) continue;
+            if (haystacks[ord].contains(keyword)) Bitmaps.set(out, ord);
+        }
+    }
+
+    /**
+     * 후보 구간 병렬 검증
+     * - 후보는 순번 오름차순이므로 분할 지점을 다음 word 경계까지 밀면 두 구간이 out의 같은 word를 쓰지 않는다.
+     */
+    private final class VerifyTask extends RecursiveAction {
+        private final String keyword;
+        private final long[] within;
+        private final int[] candidates;
+        private final int from, to;
+        private final long[] out;
+
+        VerifyTask(String keyword, long[] within, int[] candidates, int from, int to, long[] out) {
+            this.keyword = keyword;
+            this.within = within;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > VERIFY_SEGMENT) {
+                int mid = (from + to) >>> 1;
+                while (mid < to && candidates[mid] >>> 6 == candidates[mid - 1] >>> 6) mid++;
+                if (mid < to) {
+                    invokeAll(new VerifyTask(keyword, within, candidates, from, mid, out),
+                            new VerifyTask(keyword, within, candidates, mid, to, out));
+                    return;
+                }
+            }
+            verify(keyword, within, candidates, from, to, out);
+        }
+    }
+
+    /**
+     * 키워드가 일치하는 필드
+     * - 필드 경계를 걸치는 일치(예: 복지명 끝 + 설명 앞)는 어느 필드에도 포함하지 않음
+     * @param keyword 정규화된(소문자) 키워드
+     * @return FIELD_* 비트 조합 (없으면 0)
+     */
+    public int fieldsOf(int ordinal, String keyword) {
+        String hay = haystacks[ordinal];
+        int nameEnd = nameEnds[ordinal];
+        int descEnd = descEnds[ordinal];
+        int fields = 0;
+        for (int at = hay.indexOf(keyword); at >= 0 && fields != ALL_FIELDS; at = hay.indexOf(keyword, at + 1)) {
+            int end = at + keyword.length();
+            if (end <= nameEnd) fields |= FIELD_NAME;
+            else if (at > nameEnd && end <= descEnd) fields |= FIELD_DESCRIPTION;
+            else if (at > descEnd) fields |= FIELD_DEPARTMENT;
+        }
+        return fields;
+    }
+
+    /** n-gram posting 교집합으로 후보 순번 산출 (검증 전) */
+    int[] candidates(String keyword) {
+        if (keyword.length() == 1) {
+            return unigrams.getOrDefault((int) keyword.charAt(0), NO_POSTINGS);
+        }
+
+        // 2-gram posting을 짧은 순으로 교집합
+        int grams = keyword.length() - 1;
+        int[][] lists = new int[grams][];
+        for (int p = 0; p < grams; p++) {
+            int[] posting = bigrams.get(bigram(keyword.charAt(p), keyword.charAt(p + 1)));
+            if (posting == null) return NO_POSTINGS;
+            lists[p] = posting;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(a -> a.length));
+
+        int[] acc = lists[0];
+        for (int k = 1; k < lists.length && acc.length > 0; k++) {
+            if (lists[k] == lists[k - 1]) continue;
+            acc = intersect(acc, lists[k]);
+        }
+        return acc;
+    }
+
+    /** 오름차순 posting 교집합 */
+    static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else { out[n++] = a[i]; i++; j++; }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    static Map<Integer, int[]> freeze(Map<Integer, IntBuf> bufs) {
+        Map<Integer, int[]> out = new HashMap<>(bufs.size() * 2);
+        bufs.forEach((k, v) -> out.put(k, v.toArray()));
+        return Collections.unmodifiableMap(out);
+    }
+
+    /**
+     * 점진 빌더
+     * - 항목을 순서대로 add (호출 순서 = 순번)
+     */
+    public static final class Builder {
+
+        private final List<String> haystacks = new ArrayList<>();
+        private int[] nameEnds = new int[16];
+        private int[] descEnds = new int[16];
+        private final Map<Integer, IntBuf> uni = new HashMap<>();
+        private final Map<Integer, IntBuf> bi = new HashMap<>();
+
+        public Builder add(CatalogItem item) {
+            int ordinal = haystacks.size();
+            String name = lower(item.welfareName());
+            String desc = lower(item.description());
+            String hay = name + " " + desc + " " + lower(item.department());
+            haystacks.add(hay);
+            if (ordinal == nameEnds.length) {
+                nameEnds = Arrays.copyOf(nameEnds, ordinal * 2);
+                descEnds = Arrays.copyOf(descEnds, ordinal * 2);
+            }
+            nameEnds[ordinal] = name.length();
+            descEnds[ordinal] = name.length() + 1 + desc.length();
+            for (int p = 0; p < hay.length(); p++) {
+                char c = hay.charAt(p);
+                uni.computeIfAbsent((int) c, k -> new IntBuf()).addOnce(ordinal);
+                if (p + 1 < hay.length()) {
+                    bi.computeIfAbsent(bigram(c, hay.charAt(p + 1)), k -> new IntBuf()).addOnce(ordinal);
+                }
+            }
+            return this;
+        }
+
+        public CatalogKeywordIndex build() {
+            int n = haystacks.size();
+            return new CatalogKeywordIndex(haystacks.toArray(String[]::new),
+                    Arrays.copyOf(nameEnds, n), Arrays.copyOf(descEnds, n), freeze(uni), freeze(bi));
+        }
+    }
+
+    /** 오름차순 순번 누적용 버퍼 (같은 순번 연속 추가는 무시) */
+    static final class IntBuf {
+        private int[] a = new int[4];
+        private int n;
+
+        void addOnce(int v) {
+            if (n > 0 && a[n - 1] == v) return;
+            if (n == a.length) a = Arrays.copyOf(a, n * 2);
+            a[n++] = v;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(a, n);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.benefitmap.backend.catalog.index;
+
+import java.util.*;
+
+/**
+ * 카탈로그 지역 색인 (불변)
+ * - 항목의 대상 지역을 전국 / 시·도 / 시·군·구 3단계로 나눠 단계별 비트셋 보관
+ *   · 전국: regionDo 없음
+ *   · 시·도 전체: regionDo만 있음
+ *   · 시·군·구: regionDo + regionSi
+ * - 거주지 기준 대상 항목 = 전국 ∪ 해당 시·도 전체 ∪ 해당 시·군·구 (단계마다 해시 조회 1회)
+ * - 지역명은 앞뒤 공백만 제거해 그대로 비교 (사용자 프로필과 같은 표기 사용 전제)
+ */
+public final class CatalogRegionIndex {
+
+    private static final long[] NO_BITS = new long[0];
+
+    /** 색인된 항목 수 */
+    private final int size;
+
+    /** 전국 항목 */
+    private final long[] national;
+
+    /** 시·도 → 단계별 비트셋 */
+    private final Map<String, Province> provinces;
+
+    /**
+     * 시·도 단위 비트셋
+     * @param wide   시·도 전체 대상 항목
+     * @param cities 시·군·구 → 해당 시·군·구 대상 항목
+     */
+    private record Province(long[] wide, Map<String, long[]> cities) {
+    }
+
+    private CatalogRegionIndex(int size, long[] national, Map<String, Province> provinces) {
+        this.size = size;
+        this.national = national;
+        this.provinces = provinces;
+    }
+
+    /** 빈 색인 (로드 실패 시 사용) */
+    public static CatalogRegionIndex empty() {
+        return build(List.of());
+    }
+
+    /** 항목 목록으로 색인 생성 (리스트 순서 = 순번) */
+    public static CatalogRegionIndex build(List<CatalogItem> items) {
+        int size = items.size();
+        long[] national = Bitmaps.empty(size);
+        Map<String, long[]> wide = new HashMap<>();
+        Map<String, Map<String, long[]>> cities = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            CatalogItem item = items.get(i);
+            long[] bits;
+            if (item.regionDo() == null) bits = national;
+            else if (item.regionSi() == null) bits = wide.computeIfAbsent(item.regionDo(), k -> Bitmaps.empty(size));
+            else bits = cities.computeIfAbsent(item.regionDo(), k -> new HashMap<>())
+                    .computeIfAbsent(item.regionSi(), k -> Bitmaps.empty(size));
+            Bitmaps.set(bits, i);
+        }
+
+        Set<String> names = new HashSet<>(wide.keySet());
+        names.addAll(cities.keySet());
+        Map<String, Province> provinces = new HashMap<>(names.size() * 2);
+        for (String name : names) {
+            provinces.put(name, new Province(wide.getOrDefault(name, NO_BITS),
+                    Collections.unmodifiableMap(cities.getOrDefault(name, Map.of()))));
+        }
+        return new CatalogRegionIndex(size, national, Collections.unmodifiableMap(provinces));
+    }
+
+    /** 지역명 정규화: 앞뒤 공백 제거, 비면 null */
+    public static String normalize(String region) {
+        if (region == null) return null;
+        String r = region.strip();
+        return r.isEmpty() ? null : r;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 색인에 등장한 시·도 목록 */
+    public Set<String> provinces() {
+        return provinces.keySet();
+    }
+
+    /**
+     * 거주지 기준 대상 항목
+     * @param regionDo 시·도 (null이면 전국 항목만)
+     * @param regionSi 시·군·구 (null이면 시·도 전체 항목까지)
+     * @return 새 비트셋 (호출자가 수정 가능)
+     */
+    public long[] eligible(String regionDo, String regionSi) {
+        long[] out = national.clone();
+        Province p = provinces.get(normalize(regionDo));
+        if (p == null) return out;
+        if (p.wide().length > 0) Bitmaps.or(out, p.wide());
+        String si = normalize(regionSi);
+        long[] city = si == null ? null : p.cities().get(si);
+        if (city != null) Bitmaps.or(out, city);
+        return out;
+    }
+}
@@ -0,0 +1,198 @@
+package com.benefitmap.backend.catalog.index;
+
+import java.util.*;
+
+/**
+ * 카탈로그 자동완성 접두사 트라이 (불변)
+ * - 후보 문자열: 복지명과 부처명 (같은 문자열은 하나로 합치고 등장 항목 수를 가중치로 사용)
+ * - 키: 후보를 소문자로 정규화한 뒤 각 단어 시작 위치부터의 접미사 (예: "청년 월세 지원"은 "월"로도 찾음)
+ * - 노드마다 상위 MAX_SUGGESTIONS개 후보 번호를 미리 계산해 두어, 조회 = 접두사 길이만큼 자식 이분 탐색 + 배열 복사
+ * - 노드는 배열로 평탄화 (자식은 글자 오름차순 연속 구간), 자식이 하나뿐인 경로는 상위 목록 배열을 공유
+ * - 순위: 가중치 내림차순 → 짧은 문자열 → 사전순
+ */
+public final class CatalogSuggestIndex {
+
+    /** 노드별로 미리 계산하는 최대 후보 수 */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int[] NONE = new int[0];
+
+    /** 후보 번호 → 표시 문자열 (순위 순으로 번호 부여) */
+    private final String[] suggestions;
+
+    /** 노드 → 자식 구간 시작 (길이 = 노드 수 + 1, 자식 구간 = [childStart[n], childStart[n + 1])) */
+    private final int[] childStart;
+
+    /** 자식 구간의 글자 (구간 안에서 오름차순) */
+    private final char[] childChars;
+
+    /** 자식 구간의 자식 노드 번호 */
+    private final int[] childNodes;
+
+    /** 노드 → 상위 후보 번호 (순위 순) */
+    private final int[][] top;
+
+    private CatalogSuggestIndex(String[] suggestions, int[] childStart, char[] childChars, int[] childNodes,
+                                int[][] top) {
+        this.suggestions = suggestions;
+        this.childStart = childStart;
+        this.childChars = childChars;
+        this.childNodes = childNodes;
+        this.top = top;
+    }
+
+    /** 빈 색인 (로드 실패 시 사용) */
+    public static CatalogSuggestIndex empty() {
+        return build(List.of());
+    }
+
+    /** 항목 목록으로 색인 생성 */
+    public static CatalogSuggestIndex build(List<CatalogItem> items) {
+        // 1) 후보 문자열별 가중치 (등장 항목 수)
+        Map<String, Integer> weights = new HashMap<>();
+        for (CatalogItem item : items) {
+            count(weights, item.welfareName());
+            count(weights, item.department());
+        }
+
+        // 2) 순위 순 번호 부여 (번호가 작을수록 높은 순위 → 상위 목록 병합은 번호 비교만으로 충분)
+        String[] suggestions = weights.keySet().toArray(String[]::new);
+        Arrays.sort(suggestions, Comparator.<String>comparingInt(weights::get).reversed()
+                .thenComparingInt(String::length)
+                .thenComparing(Comparator.naturalOrder()));
+
+        // 3) 임시 트라이 구성 (각 단어 시작 위치부터 삽입)
+        Node root = new Node();
+        for (int id = 0; id < suggestions.length; id++) {
+            String key = normalize(suggestions[id]);
+            for (int start : wordStarts(key)) root.insert(key, start, id);
+        }
+
+        // 4) 너비 우선으로 평탄화 (자식 구간이 연속되도록)
+        List<Node> order = new ArrayList<>();
+        order.add(root);
+        for (int n = 0; n < order.size(); n++) order.addAll(order.get(n).children.values());
+
+        int nodes = order.size();
+        int[] childStart = new int[nodes + 1];
+        char[] childChars = new char[nodes - 1];
+        int[] childNodes = new int[nodes - 1];
+        int next = 1;
+        for (int n = 0; n < nodes; n++) {
+            childStart[n] = next - 1;
+            for (Map.Entry<Character, Node> e : order.get(n).children.entrySet()) {
+                childChars[next - 1] = e.getKey();
+                childNodes[next - 1] = next;
+                next++;
+            }
+        }
+        childStart[nodes] = next - 1;
+
+        // 5) 상위 목록: 잎에서 루트 방향으로 (너비 우선 역순이면 자식이 먼저 계산됨)
+        int[][] top = new int[nodes][];
+        for (int n = nodes - 1; n >= 0; n--) {
+            Node node = order.get(n);
+            int from = childStart[n], to = childStart[n + 1];
+            if (node.terminals == null && to - from == 1) {
+                top[n] = top[childNodes[from]];
+                continue;
+            }
+            int[] acc = node.terminals == null
+                    ? NONE : merge(node.terminals.stream().mapToInt(Integer::intValue).toArray(), NONE);
+            for (int c = from; c < to; c++) acc = merge(acc, top[childNodes[c]]);
+            top[n] = acc;
+        }
+
+        return new CatalogSuggestIndex(suggestions, childStart, childChars, childNodes, top);
+    }
+
+    private static void count(Map<String, Integer> weights, String s) {
+        if (s == null || s.isBlank()) return;
+        weights.merge(s.strip(), 1, Integer::sum);
+    }
+
+    /** 조회/키 정규화: 앞뒤 공백 제거 + 소문자 */
+    public static String normalize(String s) {
+        return s.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /** 단어 시작 위치 (글자로 시작하는 단어만, 숫자만으로 된 단어는 제외) */
+    private static List<Integer> wordStarts(String key) {
+        List<Integer> out = new ArrayList<>();
+        for (int p = 0; p < key.length(); p++) {
+            boolean start = p == 0 || Character.isWhitespace(key.charAt(p - 1));
+            if (start && Character.isLetter(key.charAt(p))) out.add(p);
+        }
+        return out;
+    }
+
+    /** 순위 순(번호 오름차순) 두 목록을 중복 없이 병합해 상위 MAX_SUGGESTIONS개 */
+    private static int[] merge(int[] a, int[] b) {
+        int[] out = new int[Math.min(MAX_SUGGESTIONS, a.length + b.length)];
+        int i = 0, j = 0, n = 0;
+        while (n < out.length && (i < a.length || j < b.length)) {
+            int v;
+            if (j == b.length || (i < a.length && a[i] < b[j])) v = a[i++];
+            else if (i == a.length || b[j] < a[i]) v = b[j++];
+            else { v = a[i++]; j++; }
+            out[n++] = v;
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    /**
+     * 접두사 자동완성
+     * @param prefix 입력 중인 문자열 (정규화 전)
+     * @param limit  최대 개수 (MAX_SUGGESTIONS로 제한)
+     * @return 순위 순 후보 문자열, 없으면 빈 목록
+     */
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null) return List.of();
+        String key = normalize(prefix);
+        if (key.isEmpty()) return List.of();
+
+        // 1) 접두사 경로 따라 내려가기
+        int node = 0;
+        for (int p = 0; p < key.length() && node >= 0; p++) node = child(node, key.charAt(p));
+        if (node < 0) return List.of();
+
+        // 2) 미리 계산된 상위 목록에서 limit개
+        int[] ids = top[node];
+        int n = Math.min(Math.min(limit, MAX_SUGGESTIONS), ids.length);
+        String[] out = new String[n];
+        for (int i = 0; i < n; i++) out[i] = suggestions[ids[i]];
+        return List.of(out);
+    }
+
+    /** 자식 노드 번호, 없으면 -1 */
+    private int child(int node, char c) {
+        int lo = childStart[node], hi = childStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = childChars[mid];
+            if (m < c) lo = mid + 1;
+            else if (m > c) hi = mid - 1;
+            else return childNodes[mid];
+        }
+        return -1;
+    }
+
+    /** 빌드용 임시 노드 */
+    private static final class Node {
+        private final SortedMap<Character, Node> children = new TreeMap<>();
+        private SortedSet<Integer> terminals;
+
+        void insert(String key, int from, int id) {
+            Node node = this;
+            for (int p = from; p < key.length(); p++) {
+                node = node.children.computeIfAbsent(key.charAt(p), c -> new Node());
+            }
+            if (node.terminals == null) node.terminals = new TreeSet<>();
+            node.terminals.add(id);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.benefitmap.backend.catalog.index;
+
+import java.util.*;
+
+/**
+ * 카탈로그 태그 코드 사전 (불변)
+ * - 패싯별 태그 코드(대문자) ↔ 비트 위치(0~63)
+ * - 항목의 태그 목록을 패싯당 long 마스크 하나로 표현하기 위해 사용 (CatalogItem)
+ * - 비트는 적재 중 처음 등장한 순서대로 부여, 패싯당 최대 64개
+ */
+public final class CatalogTagCodes {
+
+    /** 패싯당 최대 코드 수 (long 비트 수) */
+    public static final int MAX_CODES = Long.SIZE;
+
+    /** 패싯 → 비트 위치별 코드 */
+    private final Map<CatalogFacet, String[]> codes;
+
+    /** 패싯 → (코드 → 비트 위치) */
+    private final Map<CatalogFacet, Map<String, Integer>> bits;
+
+    private CatalogTagCodes(Map<CatalogFacet, String[]> codes) {
+        this.codes = codes;
+        Map<CatalogFacet, Map<String, Integer>> bits = new EnumMap<>(CatalogFacet.class);
+        codes.forEach((facet, byBit) -> {
+            Map<String, Integer> byCode = new HashMap<>(byBit.length * 2);
+            for (int b = 0; b < byBit.length; b++) byCode.put(byBit[b], b);
+            bits.put(facet, Collections.unmodifiableMap(byCode));
+        });
+        this.bits = bits;
+    }
+
+    /** 빈 사전 (로드 실패 시 사용) */
+    public static CatalogTagCodes empty() {
+        return new Builder().build();
+    }
+
+    /**
+     * 비트 위치 순 코드 목록으로 사전 구성 (바이너리 스냅샷 복원용)
+     * @throws IllegalArgumentException 패싯당 코드가 MAX_CODES를 넘거나 중복된 경우
+     */
+    public static CatalogTagCodes of(Map<CatalogFacet, List<String>> codes) {
+        Builder b = new Builder();
+        codes.forEach((facet, list) -> {
+            for (String code : list) {
+                int before = b.size(facet);
+                b.bitOf(facet, code);
+                if (b.size(facet) == before) {
+                    throw new IllegalArgumentException("duplicate " + facet + " code: " + code);
+                }
+            }
+        });
+        return b.build();
+    }
+
+    /** 패싯의 코드 수 */
+    public int size(CatalogFacet facet) {
+        return codes.get(facet).length;
+    }
+
+    /** 패싯의 비트 위치 순 코드 목록 */
+    public List<String> codes(CatalogFacet facet) {
+        return List.of(codes.get(facet));
+    }
+
+    /**
+     * 선택 코드들의 마스크 (검색 조건용)
+     * - 대소문자 무시, null/모르는 코드는 무시
+     * @return 마스크 (codes가 null/빈 목록이면 0)
+     */
+    public long mask(CatalogFacet facet, Collection<String> selected) {
+        if (selected == null) return 0L;
+        Map<String, Integer> byCode = bits.get(facet);
+        long mask = 0L;
+        for (String code : selected) {
+            if (code == null) continue;
+            Integer bit = byCode.get(normalize(code));
+            if (bit != null) mask |= 1L << bit;
+        }
+        return mask;
+    }
+
+    /** 마스크의 코드 목록 (비트 위치 순) */
+    public List<String> codesOf(CatalogFacet facet, long mask) {
+        String[] byBit = codes.get(facet);
+        List<String> out = new ArrayList<>(Long.bitCount(mask));
+        for (long m = mask; m != 0; m &= m - 1) out.add(byBit[Long.numberOfTrailingZeros(m)]);
+        return Collections.unmodifiableList(out);
+    }
+
+    static String normalize(String code) {
+        return code.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 점진 빌더
+     * - 항목을 순서대로 넣으며 새 코드에 다음 비트를 부여
+     */
+    public static final class Builder {
+
+        private final Map<CatalogFacet, Map<String, Integer>> growing = new EnumMap<>(CatalogFacet.class);
+
+        public Builder() {
+            for (CatalogFacet facet : CatalogFacet.values()) growing.put(facet, new LinkedHashMap<>());
+        }
+
+        /**
+         * 태그 목록의 마스크 (처음 보는 코드는 비트 부여)
+         * @throws IllegalArgumentException 패싯 코드가 MAX_CODES를 넘는 경우
+         */
+        public long mask(CatalogFacet facet, List<String> tags) {
+            if (tags == null) return 0L;
+            long mask = 0L;
+            for (String tag : tags) {
+                if (tag != null) mask |= 1L << bitOf(facet, tag);
+            }
+            return mask;
+        }
+
+        int bitOf(CatalogFacet facet, String tag) {
+            Map<String, Integer> byCode = growing.get(facet);
+            String code = normalize(tag);
+            Integer bit = byCode.get(code);
+            if (bit != null) return bit;
+            if (byCode.size() == MAX_CODES) {
+                throw new IllegalArgumentException("too many " + facet + " codes (max " + MAX_CODES + "): " + code);
+            }
+            byCode.put(code, byCode.size());
+            return byCode.size() - 1;
+        }
+
+        int size(CatalogFacet facet) {
+            return growing.get(facet).size();
+        }
+
+        public CatalogTagCodes build() {
+            Map<CatalogFacet, String[]> codes = new EnumMap<>(CatalogFacet.class);
+            growing.forEach((facet, byCode) -> codes.put(facet, byCode.keySet().toArray(String[]::new)));
+            return new CatalogTagCodes(codes);
+        }
+    }
+}
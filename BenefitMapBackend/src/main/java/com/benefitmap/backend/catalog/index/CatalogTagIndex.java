@@ -0,0 +1,113 @@
+package com.benefitmap.backend.catalog.index;
+
+import java.util.*;
+
+/**
+ * 카탈로그 태그 역색인 (불변)
+ * - 패싯별 태그 코드(대문자) → 항목 순번 비트셋
+ * - 로드 시 항목 태그 마스크(CatalogItem)에서 한 번만 생성, 검색은 패싯 내부 OR / 패싯 간 AND 비트 연산으로 처리
+ */
+public final class CatalogTagIndex {
+
+    private static final long[] NO_BITS = new long[0];
+
+    /** 색인된 항목 수 */
+    private final int size;
+
+    /** 패싯 → (코드 → 비트셋) */
+    private final Map<CatalogFacet, Map<String, long[]>> postings;
+
+    private CatalogTagIndex(int size, Map<CatalogFacet, Map<String, long[]>> postings) {
+        this.size = size;
+        this.postings = postings;
+    }
+
+    /** 빈 색인 (로드 실패 시 사용) */
+    public static CatalogTagIndex empty() {
+        return build(List.of(), CatalogTagCodes.empty());
+    }
+
+    /**
+     * 항목 목록으로 색인 생성 (리스트 순서 = 순번)
+     * - 코드별 비트셋을 항목 마스크의 비트에서 바로 채운다.
+     * @param codes 항목 마스크의 코드 사전
+     */
+    public static CatalogTagIndex build(List<CatalogItem> items, CatalogTagCodes codes) {
+        int size = items.size();
+        Map<CatalogFacet, Map<String, long[]>> postings = new EnumMap<>(CatalogFacet.class);
+        for (CatalogFacet facet : CatalogFacet.values()) {
+            // 1) 비트 위치별 비트셋
+            long[][] byBit = new long[codes.size(facet)][];
+            for (int b = 0; b < byBit.length; b++) byBit[b] = Bitmaps.empty(size);
+            for (int i = 0; i < size; i++) {
+                for (long m = items.get(i).mask(facet); m != 0; m &= m - 1) {
+                    Bitmaps.set(byBit[Long.numberOfTrailingZeros(m)], i);
+                }
+            }
+
+            // 2) 코드 → 비트셋
+            List<String> byCode = codes.codes(facet);
+            Map<String, long[]> fixed = new HashMap<>(byBit.length * 2);
+            for (int b = 0; b < byBit.length; b++) fixed.put(byCode.get(b), byBit[b]);
+            postings.put(facet, Collections.unmodifiableMap(fixed));
+        }
+        return new CatalogTagIndex(size, Collections.unmodifiableMap(postings));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 패싯별 등록된 코드 목록 */
+    public Set<String> codes(CatalogFacet facet) {
+        return postings.get(facet).keySet();
+    }
+
+    /** 단일 코드의 비트셋 (없으면 빈 배열, 읽기 전용으로 사용할 것) */
+    public long[] bitsOf(CatalogFacet facet, String code) {
+        long[] bits = postings.get(facet).get(normalize(code));
+        return bits != null ? bits : NO_BITS;
+    }
+
+    /**
+     * 패싯 내부 OR 결과
+     * @param codes 선택한 코드 목록 (null/빈 목록이면 null = 조건 없음)
+     * @return 새 비트셋 (호출자가 수정 가능)
+     */
+    public long[] union(CatalogFacet facet, Collection<String> codes) {
+        if (codes == null || codes.isEmpty()) return null;
+        long[] acc = Bitmaps.empty(size);
+        Map<String, long[]> byCode = postings.get(facet);
+        for (String code : codes) {
+            if (code == null) continue;
+            long[] bits = byCode.get(normalize(code));
+            if (bits != null) Bitmaps.or(acc, bits);
+        }
+        return acc;
+    }
+
+    /**
+     * 태그 조건 매칭 (패싯 내부 OR, 패싯 간 AND)
+     * @return 매칭 비트셋, 태그 조건이 하나도 없으면 null
+     */
+    public long[] match(Collection<String> lifecycles,
+                        Collection<String> households,
+                        Collection<String> interests) {
+        long[] acc = null;
+        acc = intersect(acc, union(CatalogFacet.LIFECYCLE, lifecycles));
+        acc = intersect(acc, union(CatalogFacet.HOUSEHOLD, households));
+        acc = intersect(acc, union(CatalogFacet.INTEREST, interests));
+        return acc;
+    }
+
+    private static long[] intersect(long[] acc, long[] bits) {
+        if (bits == null) return acc;
+        if (acc == null) return bits;
+        Bitmaps.and(acc, bits);
+        return acc;
+    }
+
+    private static String normalize(String code) {
+        return CatalogTagCodes.normalize(code);
+    }
+}
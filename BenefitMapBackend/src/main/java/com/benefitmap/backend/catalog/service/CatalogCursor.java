@@ -0,0 +1,55 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.dto.CatalogSort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 카탈로그 검색 커서 (클라이언트에는 불투명 문자열)
+ * - 스냅샷 버전 + 정렬 + 다음 페이지 번호 + 다음 시작 위치
+ * - 순번은 스냅샷마다 달라지므로 버전이 바뀐 커서는 거부
+ *
+ * @param version 커서를 만든 스냅샷 버전
+ * @param sort    커서를 만든 정렬 (from의 의미가 정렬마다 다름)
+ * @param page    다음 페이지 번호
+ * @param from    CATALOG: 다음 탐색 시작 순번 / RELEVANCE: 다음 순위(0부터)
+ */
+record CatalogCursor(long version, CatalogSort sort, int page, int from) {
+
+    private static final int BYTES = Long.BYTES + 1 + Integer.BYTES * 2;
+
+    /** URL-safe Base64 문자열로 인코딩 */
+    String encode() {
+        ByteBuffer buf = ByteBuffer.allocate(BYTES)
+                .putLong(version).put((byte) sort.ordinal()).putInt(page).putInt(from);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @throws ResponseStatusException 형식 오류 시 400
+     */
+    static CatalogCursor decode(String cursor) {
+        byte[] raw;
+        try {
+            raw = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            raw = null;
+        }
+        if (raw == null || raw.length != BYTES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor: invalid");
+        }
+        ByteBuffer buf = ByteBuffer.wrap(raw);
+        long version = buf.getLong();
+        int sort = buf.get();
+        int page = buf.getInt();
+        int from = buf.getInt();
+        if (sort < 0 || sort >= CatalogSort.values().length || page < 0 || from < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor: invalid");
+        }
+        return new CatalogCursor(version, CatalogSort.values()[sort], page, from);
+    }
+}
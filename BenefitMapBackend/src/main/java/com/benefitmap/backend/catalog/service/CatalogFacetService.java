@@ -0,0 +1,88 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogDataLoader;
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.CatalogFacetCounts;
+import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.index.Bitmaps;
+import com.benefitmap.backend.catalog.index.CatalogFacet;
+import com.benefitmap.backend.catalog.index.CatalogTagIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 카탈로그 패싯 건수 서비스
+ * - 태그 역색인 비트셋의 교집합 cardinality로 계산 (항목 DTO를 만들지 않음)
+ * - 패싯 F의 코드 c 건수 = |키워드 ∧ (F를 제외한 패싯들의 선택 OR) ∧ bits(c)|
+ *   → 칩을 하나 더 켰을 때(같은 패싯 OR) 늘어날 결과 수를 그대로 보여줌
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogFacetService {
+
+    private final CatalogDataLoader loader;
+    private final CatalogSearchExecutor executor;
+
+    /**
+     * 현재 선택 조건의 패싯 건수
+     * @param req 검색 조건 (page/size/sort/cursor는 무시)
+     * @throws org.springframework.web.server.ResponseStatusException households 규칙 위반, 잘못된 기간/나이 시 400
+     */
+    public CatalogFacetCounts count(CatalogSearchRequest req) {
+        CatalogSearchService.validateHouseholds(req.households());
+
+        // 1) 스냅샷 고정
+        CatalogSnapshot snap = loader.snapshot();
+        CatalogTagIndex tags = snap.tagIndex();
+
+        // 2) 조건별 비트셋 (null = 조건 없음), 신청 기간/지역/자격/키워드는 모든 패싯에 공통
+        //    키워드는 검색과 같은 규칙(전체 기준 초성/오타 대체 → AND)으로 계산
+        long[] keyword = CatalogSearchService.window(snap, req.window(), req.withinDays(),
+                CatalogSearchService.today());
+        keyword = and(keyword, CatalogSearchService.region(snap, req.regionDo(), req.regionSi()));
+        keyword = and(keyword, CatalogSearchService.eligibility(snap, req.age(), req.gender()));
+        if (req.keyword() != null && !req.keyword().isBlank()) {
+            keyword = CatalogSearchService.keyword(snap, req.keyword(), keyword, executor.poolFor(snap));
+        }
+        Map<CatalogFacet, long[]> selected = new EnumMap<>(CatalogFacet.class);
+        selected.put(CatalogFacet.LIFECYCLE, tags.union(CatalogFacet.LIFECYCLE, req.lifecycles()));
+        selected.put(CatalogFacet.HOUSEHOLD, tags.union(CatalogFacet.HOUSEHOLD, req.households()));
+        selected.put(CatalogFacet.INTEREST, tags.union(CatalogFacet.INTEREST, req.interests()));
+
+        // 3) 패싯별: 자기 패싯을 뺀 조건 ∧ 코드 비트셋
+        Map<CatalogFacet, Map<String, Integer>> counts = new EnumMap<>(CatalogFacet.class);
+        for (CatalogFacet facet : CatalogFacet.values()) {
+            long[] base = keyword;
+            for (CatalogFacet other : CatalogFacet.values()) {
+                if (other != facet) base = and(base, selected.get(other));
+            }
+            Map<String, Integer> byCode = new TreeMap<>();
+            for (String code : tags.codes(facet)) {
+                long[] bits = tags.bitsOf(facet, code);
+                byCode.put(code, base == null ? Bitmaps.cardinality(bits) : Bitmaps.andCardinality(base, bits));
+            }
+            counts.put(facet, byCode);
+        }
+
+        // 4) 전체 일치 수
+        long[] all = keyword;
+        for (long[] bits : selected.values()) all = and(all, bits);
+        int total = all == null ? snap.size() : Bitmaps.cardinality(all);
+
+        return new CatalogFacetCounts(total,
+                counts.get(CatalogFacet.LIFECYCLE),
+                counts.get(CatalogFacet.HOUSEHOLD),
+                counts.get(CatalogFacet.INTEREST));
+    }
+
+    /** 두 조건의 AND (null = 조건 없음, 입력 배열은 수정하지 않음) */
+    private static long[] and(long[] acc, long[] bits) {
+        if (bits == null) return acc;
+        if (acc == null) return bits;
+        long[] out = acc.clone();
+        Bitmaps.and(out, bits);
+        return out;
+    }
+}
@@ -0,0 +1,184 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.index.Bitmaps;
+import com.benefitmap.backend.catalog.index.CatalogDateIndex;
+import com.benefitmap.backend.catalog.index.CatalogFacet;
+import com.benefitmap.backend.catalog.index.CatalogItem;
+import com.benefitmap.backend.catalog.index.CatalogKeywordIndex;
+import com.benefitmap.backend.catalog.index.CatalogTagCodes;
+
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 카탈로그 관련도 정렬
+ * - 점수 = 일치 태그 수(항목 마스크 & 요청 마스크의 비트 수) + 키워드 일치 필드 가중치(복지명 3 > 설명 2 > 부처 1) + 마감 임박 가산(최대 2)
+ * - 마감 임박: 오늘 기준 종료일까지 30일 이내면 가까울수록 큼 (지난 항목/종료일 없음은 가산 없음)
+ * - 일치 항목 전체를 정렬하지 않고 크기 k의 최소 힙으로 상위 k개만 선택 (O(n log k))
+ * - 동점은 카탈로그 순서
+ * - 병렬 풀이 주어지면 비트셋을 word 구간으로 나눠 구간별 상위 k개를 구한 뒤 순위 순으로 병합 (결과는 순차와 동일)
+ */
+final class CatalogRanker {
+
+    /** 마감일 기준 시간대 */
+    static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final double TAG_WEIGHT = 1.0;
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double DESCRIPTION_WEIGHT = 2.0;
+    private static final double DEPARTMENT_WEIGHT = 1.0;
+    private static final double DEADLINE_WEIGHT = 2.0;
+    private static final int DEADLINE_WINDOW_DAYS = 30;
+
+    /** 병렬 점수 계산 시 작업 하나가 맡는 최대 word 수 (8192 순번) */
+    private static final int SEGMENT_WORDS = 128;
+
+    /** 힙 머리 = 가장 낮은 순위 (점수 낮은 순, 동점이면 뒤 순번) */
+    private static final Comparator<Scored> WORST_FIRST = Comparator
+            .comparingDouble(Scored::score)
+            .thenComparing(Comparator.comparingInt(Scored::ordinal).reversed());
+
+    private CatalogRanker() {
+    }
+
+    private record Scored(int ordinal, double score) {
+    }
+
+    /** 점수 계산에 쓰는 요청 값 */
+    private record Query(long[] tagMasks, String keyword, int today) {
+    }
+
+    /**
+     * 상위 k개 순번
+     * @param bits  일치 비트셋 (전체면 Bitmaps.full)
+     * @param k     선택 개수
+     * @param today 오늘 (epoch-day)
+     * @return 점수 내림차순 순번 (일치 항목이 k개보다 적으면 그만큼만)
+     */
+    static int[] topK(CatalogSnapshot snap, CatalogSearchRequest req, long[] bits, int k, int today) {
+        return topK(snap, req, bits, k, today, null);
+    }
+
+    /**
+     * 상위 k개 순번 (점수 계산 병렬)
+     * @param pool 병렬 풀 (null이거나 비트셋이 작으면 순차)
+     */
+    static int[] topK(CatalogSnapshot snap, CatalogSearchRequest req, long[] bits, int k, int today,
+                      ForkJoinPool pool) {
+        if (k <= 0) return new int[0];
+
+        // 1) 점수 계산에 쓸 요청 태그 마스크 / 키워드 (모르는/중복 코드는 마스크에서 자연히 빠짐)
+        CatalogTagCodes codes = snap.tagCodes();
+        long[] tagMasks = {
+                codes.mask(CatalogFacet.LIFECYCLE, req.lifecycles()),
+                codes.mask(CatalogFacet.HOUSEHOLD, req.households()),
+                codes.mask(CatalogFacet.INTEREST, req.interests())
+        };
+        String keyword = req.keyword() == null || req.keyword().isBlank()
+                ? null : CatalogKeywordIndex.normalize(req.keyword());
+        Query q = new Query(tagMasks, keyword, today);
+
+        // 2) 구간별 상위 k개 (작으면 한 구간)
+        Scored[] top = pool == null || bits.length <= SEGMENT_WORDS
+                ? select(snap, q, bits, 0, bits.length, k)
+                : pool.invoke(new TopKTask(snap, q, bits, 0, bits.length, k));
+
+        int[] out = new int[top.length];
+        for (int p = 0; p < out.length; p++) out[p] = top[p].ordinal();
+        return out;
+    }
+
+    /**
+     * bits의 [fromWord, toWord) 구간에서 상위 k개
+     * @return 순위 순(최고 점수가 0번)
+     */
+    private static Scored[] select(CatalogSnapshot snap, Query q, long[] bits, int fromWord, int toWord, int k) {
+        // 1) 크기 k 최소 힙 유지 (순번 오름차순 순회이므로 동점은 먼저 들어온 항목 유지)
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, WORST_FIRST);
+        int end = toWord << 6;
+        for (int i = Bitmaps.nextSetBit(bits, fromWord << 6); i >= 0 && i < end; i = Bitmaps.nextSetBit(bits, i + 1)) {
+            double score = score(snap, q.tagMasks(), q.keyword(), i, q.today());
+            if (heap.size() < k) {
+                heap.add(new Scored(i, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Scored(i, score));
+            }
+        }
+
+        // 2) 힙을 비우며 뒤에서부터 채움 (최고 점수가 0번)
+        Scored[] out = new Scored[heap.size()];
+        for (int p = out.length - 1; p >= 0; p--) out[p] = heap.poll();
+        return out;
+    }
+
+    /** 순위 순 두 목록을 병합해 상위 k개 (WORST_FIRST의 역순 = 순위 순) */
+    private static Scored[] merge(Scored[] a, Scored[] b, int k) {
+        Scored[] out = new Scored[Math.min(k, a.length + b.length)];
+        int i = 0, j = 0;
+        for (int p = 0; p < out.length; p++) {
+            if (j == b.length || (i < a.length && WORST_FIRST.compare(a[i], b[j]) > 0)) out[p] = a[i++];
+            else out[p] = b[j++];
+        }
+        return out;
+    }
+
+    /** word 구간 분할 병렬 상위 k개 */
+    private static final class TopKTask extends RecursiveTask<Scored[]> {
+        private final CatalogSnapshot snap;
+        private final Query q;
+        private final long[] bits;
+        private final int fromWord, toWord, k;
+
+        TopKTask(CatalogSnapshot snap, Query q, long[] bits, int fromWord, int toWord, int k) {
+            this.snap = snap;
+            this.q = q;
+            this.bits = bits;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+            this.k = k;
+        }
+
+        @Override
+        protected Scored[] compute() {
+            if (toWord - fromWord <= SEGMENT_WORDS) return select(snap, q, bits, fromWord, toWord, k);
+            int mid = (fromWord + toWord) >>> 1;
+            TopKTask left = new TopKTask(snap, q, bits, fromWord, mid, k);
+            left.fork();
+            Scored[] right = new TopKTask(snap, q, bits, mid, toWord, k).compute();
+            return merge(left.join(), right, k);
+        }
+    }
+
+    private static double score(CatalogSnapshot snap, long[] tagMasks, String keyword, int ordinal, int today) {
+        CatalogItem item = snap.items().get(ordinal);
+
+        // 일치 태그 수
+        int tags = Long.bitCount(item.lifecycles() & tagMasks[0])
+                + Long.bitCount(item.households() & tagMasks[1])
+                + Long.bitCount(item.interests() & tagMasks[2]);
+        double score = TAG_WEIGHT * tags;
+
+        // 키워드 일치 필드
+        if (keyword != null) {
+            int fields = snap.keywordIndex().fieldsOf(ordinal, keyword);
+            if ((fields & CatalogKeywordIndex.FIELD_NAME) != 0) score += NAME_WEIGHT;
+            if ((fields & CatalogKeywordIndex.FIELD_DESCRIPTION) != 0) score += DESCRIPTION_WEIGHT;
+            if ((fields & CatalogKeywordIndex.FIELD_DEPARTMENT) != 0) score += DEPARTMENT_WEIGHT;
+        }
+
+        // 마감 임박
+        int end = item.endDay();
+        if (end != CatalogDateIndex.NO_DATE) {
+            int daysLeft = end - today;
+            if (daysLeft >= 0 && daysLeft <= DEADLINE_WINDOW_DAYS) {
+                score += DEADLINE_WEIGHT * (DEADLINE_WINDOW_DAYS - daysLeft) / DEADLINE_WINDOW_DAYS;
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,187 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogDataLoader;
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.CatalogPage;
+import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.dto.CatalogSort;
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.config.catalog.CatalogProperties;
+import com.benefitmap.backend.config.metrics.CacheMeters;
+import com.benefitmap.backend.onboarding.TagQueryService;
+import com.benefitmap.backend.onboarding.TagQueryService.UserTagCodes;
+import com.benefitmap.backend.onboarding.UserTagsChangedEvent;
+import com.benefitmap.backend.user.enums.Gender;
+import com.benefitmap.backend.user.repo.UserProfileRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 맞춤 추천 서비스
+ * - 사용자 온보딩 태그 + 프로필(거주지 regionDo/regionSi, 나이, 성별)로 카탈로그를 선필터해 추천 목록 구성
+ *   · 지역: 전국 + 거주 시·도 전체 + 거주 시·군·구 대상 항목만 (프로필이 없으면 지역 무관)
+ *   · 자격: 대상 나이 범위에 들고 성별 제한이 없거나 같은 항목만 (자격 색인 비트셋 AND, 항목별 분기 없음)
+ * - 사용자별 캐시(Caffeine): 태그 코드 + 프로필 + 일치 항목 순번 목록(정렬 반영)
+ *   · 태그/프로필 조회와 매칭/정렬은 캐시 미스 때만 수행, 적중 시 페이지 구간만 잘라 반환
+ *   · 조회/정렬은 캐시 락 밖에서 계산한 뒤 조건부로 넣음 (compute 안에서 DB I/O·정렬을 하면 같은 bin의 다른 키까지 막힘)
+ *     같은 사용자의 동시 미스는 각자 계산하고 먼저 넣은 항목이 남음
+ *   · 스냅샷 버전이 바뀌면 순번이 달라지므로 재계산 (태그/프로필은 재사용)
+ *   · 관련도 순은 마감 임박 점수가 날짜에 따라 바뀌므로 날짜가 바뀌어도 재계산
+ *   · 태그/프로필 변경(UserTagsChangedEvent) 시 커밋 후 해당 사용자 항목 제거
+ *     프로필(거주지/나이/성별)은 이 이벤트로만 다시 읽으므로, 프로필을 바꾸는 경로는 반드시 이 이벤트를 발행해야 함
+ *   · 계산 도중 무효화가 있었으면 넣은 항목을 다시 제거 (무효화 이전에 읽은 태그/프로필이 남지 않도록)
+ *   · 적중률 등은 cache=catalog.recommend 메트릭으로 노출 (CacheMeters)
+ */
+@Service
+public class CatalogRecommendService {
+
+    private final CatalogDataLoader loader;
+    private final CatalogSearchService searchService;
+    private final TagQueryService tagQueryService;
+    private final UserProfileRepository userProfileRepository;
+
+    /** 사용자 ID → 추천 캐시 항목 */
+    private final Cache<Long, Entry> cache;
+
+    /** 무효화 횟수 (계산 도중 무효화 감지용) */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CatalogRecommendService(
+            CatalogDataLoader loader,
+            CatalogSearchService searchService,
+            TagQueryService tagQueryService,
+            UserProfileRepository userProfileRepository,
+            CatalogProperties props,
+            MeterRegistry meterRegistry
+    ) {
+        this.loader = loader;
+        this.searchService = searchService;
+        this.tagQueryService = tagQueryService;
+        this.userProfileRepository = userProfileRepository;
+        this.cache = CacheMeters.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(props.getRecommendCacheSize())
+                .expireAfterAccess(props.getRecommendCacheTtl())
+                .recordStats()
+                .build(), "catalog.recommend");
+    }
+
+    /**
+     * 추천 선필터에 쓰는 프로필 값 (프로필 없으면 모두 null)
+     */
+    private record Profile(String regionDo, String regionSi, Integer age, Gender gender) {
+
+        static final Profile ANY = new Profile(null, null, null, null);
+    }
+
+    /**
+     * 추천 캐시 항목
+     * @param tags    사용자 태그 코드
+     * @param profile 사용자 프로필 (거주지/나이/성별)
+     * @param version 순번 계산에 쓴 스냅샷 버전
+     * @param sort    순번 정렬
+     * @param day     계산 날짜 (epoch-day, 관련도 순 유효성 판단)
+     * @param order   일치 항목 순번 (정렬 반영)
+     */
+    private record Entry(UserTagCodes tags, Profile profile, long version, CatalogSort sort, int day, int[] order) {
+
+        boolean isFresh(long version, CatalogSort sort, int day) {
+            return this.version == version
+                    && this.sort == sort
+                    && (sort == CatalogSort.CATALOG || this.day == day);
+        }
+    }
+
+    /**
+     * 사용자 맞춤 추천
+     * @param userId 로그인 사용자 ID
+     * @param sort   정렬 (null이면 관련도 순)
+     * @return 요청 페이지
+     */
+    public CatalogPage<WelfareItemDto> recommend(Long userId, CatalogSort sort,
+                                                 Integer page, Integer size, String cursor) {
+        // 1) 스냅샷 고정
+        CatalogSnapshot snap = loader.snapshot();
+        CatalogSort s = sort == null ? CatalogSort.RELEVANCE : sort;
+        int today = CatalogSearchService.today();
+
+        // 2) 캐시 조회 → 없거나 오래되면 락 밖에서 계산
+        Entry entry = cache.getIfPresent(userId);
+        if (entry == null || !entry.isFresh(snap.version(), s, today)) entry = refresh(userId, entry, snap, s, today);
+
+        // 3) 페이지 구간만 반환
+        return searchService.page(snap, entry.order(), s, page, size, cursor);
+    }
+
+    /**
+     * 항목 재계산 후 조건부 저장
+     * @param old 오래된 항목 (없으면 null → 태그/프로필 조회)
+     * @return 새 항목 (다른 요청이 먼저 넣었으면 그 항목)
+     */
+    private Entry refresh(Long userId, Entry old, CatalogSnapshot snap, CatalogSort sort, int today) {
+        long seen = invalidations.get();
+
+        // 1) 태그/프로필 (오래된 항목이 있으면 재사용, 없으면 조회) + 순번 계산
+        UserTagCodes tags = old != null ? old.tags() : tagQueryService.getUserTagCodes(userId);
+        Profile profile = old != null ? old.profile() : profileOf(userId);
+        Entry next = new Entry(tags, profile, snap.version(), sort, today,
+                searchService.order(snap, requestOf(tags, profile, sort)));
+
+        // 2) 조건부 저장: 오래된 항목이 그대로일 때만 교체 / 비어 있을 때만 추가
+        //    (그 사이 무효화됐다면 old가 없으므로 교체 실패, 다른 요청이 넣은 새 항목은 유지)
+        if (old != null) {
+            if (!cache.asMap().replace(userId, old, next)) return next;
+        } else {
+            Entry raced = cache.asMap().putIfAbsent(userId, next);
+            if (raced != null) return raced.isFresh(snap.version(), sort, today) ? raced : next;
+        }
+
+        // 3) 계산 도중 무효화가 있었으면 넣은 항목 제거 (이번 요청 결과로만 사용)
+        if (invalidations.get() != seen) cache.asMap().remove(userId, next);
+        return next;
+    }
+
+    /** 태그 변경 커밋 후 해당 사용자 캐시 제거 (트랜잭션 밖 발행이면 즉시) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserTagsChanged(UserTagsChangedEvent event) {
+        invalidations.incrementAndGet();
+        cache.invalidate(event.userId());
+    }
+
+    /** 프로필 조회 */
+    private Profile profileOf(Long userId) {
+        return userProfileRepository.findById(userId)
+                .map(p -> new Profile(p.getRegionDo(), p.getRegionSi(),
+                        p.getAge() == null ? null : p.getAge().intValue(), p.getGender()))
+                .orElse(Profile.ANY);
+    }
+
+    /** 온보딩 태그 + 프로필 → 검색 조건 */
+    private static CatalogSearchRequest requestOf(UserTagCodes tags, Profile profile, CatalogSort sort) {
+        // households: NONE이 섞여 있으면 NONE 단독으로 정규화
+        List<String> households = tags.households();
+        if (households != null && households.size() > 1 &&
+                households.stream().anyMatch(h -> "NONE".equalsIgnoreCase(h))) {
+            households = List.of("NONE");
+        }
+
+        return new CatalogSearchRequest(
+                null,                 // keyword 없음
+                tags.lifecycles(),    // 생애주기
+                households,           // 가구상황
+                tags.interests(),     // 관심주제
+                null, null,           // 신청 기간 무관
+                profile.regionDo(),   // 거주 시·도
+                profile.regionSi(),   // 거주 시·군·구
+                profile.age(),        // 나이
+                profile.gender(),     // 성별
+                sort,                 // 정렬
+                null, null, null      // 페이지는 캐시된 순번에서 잘라냄
+        );
+    }
+}
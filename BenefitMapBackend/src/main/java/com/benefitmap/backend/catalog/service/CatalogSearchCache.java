@@ -0,0 +1,159 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogDataLoader;
+import com.benefitmap.backend.catalog.CatalogReloadedEvent;
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.CatalogCacheStats;
+import com.benefitmap.backend.catalog.dto.CatalogDateWindow;
+import com.benefitmap.backend.catalog.dto.CatalogPage;
+import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.dto.CatalogSort;
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.catalog.index.CatalogEligibilityIndex;
+import com.benefitmap.backend.catalog.index.CatalogRegionIndex;
+import com.benefitmap.backend.config.catalog.CatalogProperties;
+import com.benefitmap.backend.config.metrics.CacheMeters;
+import com.benefitmap.backend.user.enums.Gender;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 카탈로그 검색 결과 캐시
+ * - 키: 정규화한 검색 조건 + 페이지 + 스냅샷 버전 + 기준일 (신청 기간 필터/마감 임박 점수가 날짜에 의존)
+ *   · 태그: null 제외, 대문자, 중복 제거, 정렬 (패싯 내부 OR이므로 순서/중복 무관)
+ *   · 키워드: 앞뒤 공백 제거, 소문자 (비면 없음)
+ *   · 지역: 앞뒤 공백 제거 (시·도가 없으면 시·군·구도 없음)
+ *   · 나이: 마지막 나이 버킷(CatalogEligibilityIndex.MAX_AGE) 초과는 같은 키
+ *   · 페이지 크기: 검색과 같은 기본값/최대값 적용 (CatalogSearchService.pageSize)
+ * - 정규화가 가리는 규칙(households의 NONE 단독)은 키를 만들기 전에 원문으로 검증 (직접 검색과 같은 400)
+ * - 검색도 정규화한 조건으로 수행하므로 같은 키는 항상 같은 결과
+ * - 크기/시간(저장 기준) 제한, 카탈로그 재적재 시 전체 무효화
+ *   · 무효화 직전에 시작한 검색이 이전 버전 결과를 나중에 넣을 수 있으므로, 넣은 뒤 버전을 다시 확인해 제거
+ *     (교체 → 이벤트 순서이므로 이벤트보다 늦게 넣었다면 교체된 버전이 보임)
+ * - 오류(400 등)는 캐시하지 않음
+ * - 적중률 등은 cache=catalog.search 메트릭으로 노출 (CacheMeters)
+ */
+@Component
+public class CatalogSearchCache {
+
+    private final CatalogDataLoader loader;
+    private final CatalogSearchService searchService;
+    private final Cache<Key, CatalogPage<WelfareItemDto>> cache;
+
+    public CatalogSearchCache(CatalogDataLoader loader, CatalogSearchService searchService,
+                              CatalogProperties props, MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.searchService = searchService;
+        this.cache = CacheMeters.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(props.getSearchCacheSize())
+                .expireAfterWrite(props.getSearchCacheTtl())
+                .recordStats()
+                .build(), "catalog.search");
+    }
+
+    /** 정규화된 검색 키 */
+    private record Key(
+            long version,
+            int day,
+            String keyword,
+            List<String> lifecycles,
+            List<String> households,
+            List<String> interests,
+            CatalogDateWindow window,
+            Integer withinDays,
+            String regionDo,
+            String regionSi,
+            Integer age,
+            Gender gender,
+            CatalogSort sort,
+            Integer page,
+            Integer size,
+            String cursor
+    ) {
+        CatalogSearchRequest toRequest() {
+            return new CatalogSearchRequest(keyword, lifecycles, households, interests, window, withinDays,
+                    regionDo, regionSi, age, gender, sort, page, size, cursor);
+        }
+    }
+
+    /**
+     * 캐시를 거친 검색
+     * @throws org.springframework.web.server.ResponseStatusException households 규칙 위반, 잘못된 페이지/커서/기간/나이 시 400
+     */
+    public CatalogPage<WelfareItemDto> search(CatalogSearchRequest req) {
+        // 1) 스냅샷 고정 (키의 버전과 검색 스냅샷 일치)
+        CatalogSnapshot snap = loader.snapshot();
+
+        // 2) 원문 검증: 중복 제거/대문자 변환 전에 NONE 단독 규칙 확인 (["NONE","none"]도 400)
+        CatalogSearchService.validateHouseholds(req.households());
+
+        // 3) 정규화 키
+        String regionDo = CatalogRegionIndex.normalize(req.regionDo());
+        Key key = new Key(
+                snap.version(),
+                CatalogSearchService.today(),
+                keywordOf(req.keyword()),
+                codesOf(req.lifecycles()),
+                codesOf(req.households()),
+                codesOf(req.interests()),
+                req.window(),
+                req.window() == null ? null : req.withinDays(),
+                regionDo,
+                regionDo == null ? null : CatalogRegionIndex.normalize(req.regionSi()),
+                ageOf(req.age()),
+                req.gender(),
+                req.sort() == null ? CatalogSort.CATALOG : req.sort(),
+                req.page(),
+                CatalogSearchService.pageSize(req.size()),
+                req.cursor() == null || req.cursor().isBlank() ? null : req.cursor()
+        );
+
+        // 4) 조회 → 없으면 정규화 조건으로 검색해 저장
+        CatalogPage<WelfareItemDto> page = cache.get(key, k -> searchService.search(snap, k.toRequest()));
+
+        // 5) 그 사이 카탈로그가 교체됐으면 이전 버전 항목 제거 (이전 스냅샷 참조가 TTL까지 남지 않도록)
+        if (loader.snapshot().version() != key.version()) cache.asMap().remove(key, page);
+        return page;
+    }
+
+    /** 카탈로그 교체 시 전체 무효화 */
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        cache.invalidateAll();
+    }
+
+    /** 캐시 통계 */
+    public CatalogCacheStats stats() {
+        CacheStats s = cache.stats();
+        return new CatalogCacheStats(s.hitCount(), s.missCount(), s.evictionCount(), s.hitRate(),
+                cache.estimatedSize());
+    }
+
+    /** 키워드 정규화: trim + 소문자, 비면 null */
+    private static String keywordOf(String keyword) {
+        if (keyword == null || keyword.isBlank()) return null;
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** 나이 정규화: 마지막 버킷 초과는 버킷 값으로 (음수는 검색에서 400이 되도록 유지) */
+    private static Integer ageOf(Integer age) {
+        if (age == null || age <= CatalogEligibilityIndex.MAX_AGE) return age;
+        return CatalogEligibilityIndex.MAX_AGE;
+    }
+
+    /** 태그 정규화: null 제외 + 대문자 + 중복 제거 + 정렬, 비면 null */
+    private static List<String> codesOf(List<String> codes) {
+        if (codes == null || codes.isEmpty()) return null;
+        TreeSet<String> set = new TreeSet<>();
+        for (String code : codes) {
+            if (code != null) set.add(code.toUpperCase(Locale.ROOT));
+        }
+        return set.isEmpty() ? null : List.copyOf(set);
+    }
+}
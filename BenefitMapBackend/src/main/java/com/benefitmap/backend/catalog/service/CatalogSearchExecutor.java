@@ -0,0 +1,50 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.config.catalog.CatalogProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카탈로그 병렬 검색 풀
+ * - 색인으로 거를 수 없는 항목별 작업(키워드 문자열 검증, 관련도 점수)을 구간 단위로 나눠 병렬 처리할 때 사용
+ * - 공용 풀(ForkJoinPool.commonPool)과 분리된 전용 풀, 스레드 수 상한 고정 (보상 스레드도 만들지 않음)
+ * - 스냅샷 항목 수가 app.catalog.parallel-threshold 이상일 때만 풀을 돌려주고, 작으면 순차 처리
+ */
+@Component
+public class CatalogSearchExecutor {
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public CatalogSearchExecutor(CatalogProperties props) {
+        int parallelism = props.getParallelism() > 0
+                ? props.getParallelism() : Runtime.getRuntime().availableProcessors();
+        this.threshold = props.getParallelThreshold();
+        this.pool = new ForkJoinPool(parallelism, CatalogSearchExecutor::newThread, null, false,
+                0, parallelism, 1, p -> true, 60, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 스냅샷에 쓸 병렬 풀
+     * @return 항목 수가 기준 이상이면 전용 풀, 아니면 null(순차 처리)
+     */
+    public ForkJoinPool poolFor(CatalogSnapshot snap) {
+        return snap.size() >= threshold ? pool : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        t.setName("catalog-search-" + t.getPoolIndex());
+        return t;
+    }
+}
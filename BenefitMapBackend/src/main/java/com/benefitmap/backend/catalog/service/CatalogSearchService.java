@@ -1,107 +1,421 @@
 package com.benefitmap.backend.catalog.service;
 
 import com.benefitmap.backend.catalog.CatalogDataLoader;
+import com.benefitmap.backend.catalog.CatalogItemSlice;
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.CatalogDateWindow;
+import com.benefitmap.backend.catalog.dto.CatalogPage;
 import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.dto.CatalogSort;
 import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.catalog.index.Bitmaps;
+import com.benefitmap.backend.catalog.index.CatalogDateIndex;
+import com.benefitmap.backend.catalog.index.CatalogKeywordIndex;
+import com.benefitmap.backend.catalog.index.CatalogRegionIndex;
+import com.benefitmap.backend.user.enums.Gender;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * 카탈로그 검색 서비스
- * - 로드된 복지 항목 목록을 조건에 따라 필터링
- * - 키워드(부분 일치, 대소문자 무시)와 태그 OR 매칭 지원
+ * - 현재 카탈로그 스냅샷의 복지 항목을 조건에 따라 필터링
+ * - 태그 조건은 로드 시 생성된 역색인 비트셋으로 처리 (패싯 내부 OR, 패싯 간 AND)
+ * - 키워드(부분 일치, 대소문자 무시)는 n-gram 색인으로 후보를 좁힌 뒤 정규화 문자열로 검증
+ *   · 카탈로그 전체에 부분 일치가 없으면 복지명 초성/오타 허용 색인으로 대체 (예: "ㅊㅅㅈㅇ", "출산지원굼")
+ * - 신청 기간 필터(window)는 날짜 색인의 정렬 배열에서 이분 탐색으로 범위를 뽑아 AND
+ * - 지역 필터(regionDo/regionSi)는 지역 색인의 단계별 비트셋 합집합을 AND
+ * - 자격 필터(age/gender)는 자격 색인의 나이 버킷 ∧ 성별 비트셋을 AND
+ * - 결과는 페이지 단위로 반환 (전체 건수는 비트셋 cardinality, 항목은 요청 구간만 수집)
+ * - 페이지 항목은 순번 목록(CatalogItemSlice)으로 반환해 응답 시 미리 인코딩된 JSON을 사용
+ * - sort=RELEVANCE면 관련도 점수 상위 k개를 힙으로 선택 (CatalogRanker)
  * - households에 NONE 포함 시 단독만 허용
+ * - 큰 카탈로그(app.catalog.parallel-threshold 이상)는 키워드 검증/관련도 점수를 전용 풀에서 구간 병렬 처리 (결과 동일)
+ * - 검색마다 지연 시간(benefitmap.catalog.search)과 일치 건수(benefitmap.catalog.search.results)를 기록
+ *   · tag shape: 사용한 조건 종류 조합 (keyword/tags/window/region/eligibility, 없으면 none), sort: 정렬
+ *   · 400 등 실패한 검색은 기록하지 않음
  */
 @Service
 @RequiredArgsConstructor
 public class CatalogSearchService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int DEFAULT_WITHIN_DAYS = 7;
+    public static final int MAX_WITHIN_DAYS = 365;
+
+    private static final String SEARCH_TIMER = "benefitmap.catalog.search";
+    private static final String SEARCH_RESULTS = "benefitmap.catalog.search.results";
+
+    /** 조건 종류 비트 (shape 태그) */
+    private static final String[] SHAPE_PARTS = {"keyword", "tags", "window", "region", "eligibility"};
+
     private final CatalogDataLoader loader;
+    private final MeterRegistry meterRegistry;
+    private final CatalogSearchExecutor executor;
+
+    /** (shape 비트 << 1 | sort) → 미터 (검색마다 레지스트리 조회/태그 생성을 피하기 위해 보관) */
+    private final Map<Integer, SearchMeters> searchMeters = new ConcurrentHashMap<>();
+
+    /** 검색 조건 유형별 미터 */
+    private record SearchMeters(Timer latency, DistributionSummary results) {
+    }
+
+    /** 요청 페이지 시작 위치 (cursor가 있으면 cursor 기준) */
+    private record Position(int page, long rank, CatalogCursor cursor) {
+    }
 
     /**
      * 카탈로그 검색
-     * @param req 검색 조건
-     * @return 조건에 맞는 항목 리스트
-     * @throws ResponseStatusException households 규칙 위반 시 400
+     * @param req 검색 조건 + 페이지(page/size 또는 cursor)
+     * @return 요청 페이지 (카탈로그 순서 또는 관련도 순)
+     * @throws ResponseStatusException households 규칙 위반, 잘못된 페이지/커서 시 400
+     */
+    public CatalogPage<WelfareItemDto> search(CatalogSearchRequest req) {
+        // 현재 스냅샷 고정 (검색 도중 재적재되어도 같은 스냅샷 사용)
+        return search(loader.snapshot(), req);
+    }
+
+    /**
+     * 지정한 스냅샷에서 검색 (결과 캐시가 키의 스냅샷 버전과 맞추기 위해 사용)
+     * @throws ResponseStatusException households 규칙 위반, 잘못된 페이지/커서/기간/나이 시 400
      */
-    public List<WelfareItemDto> search(CatalogSearchRequest req) {
+    public CatalogPage<WelfareItemDto> search(CatalogSnapshot snap, CatalogSearchRequest req) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CatalogPage<WelfareItemDto> page = doSearch(snap, req);
+        SearchMeters meters = searchMeters(req);
+        sample.stop(meters.latency());
+        meters.results().record(page.totalElements());
+        return page;
+    }
+
+    private CatalogPage<WelfareItemDto> doSearch(CatalogSnapshot snap, CatalogSearchRequest req) {
         // 1) households 검증: NONE은 단독만 허용
-        if (req.households() != null) {
-            List<String> hs = req.households();
-            boolean containsNone = hs.stream().anyMatch(s -> "NONE".equalsIgnoreCase(s));
-            if (containsNone && hs.size() > 1) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "households: NONE must be alone");
-            }
+        validateHouseholds(req.households());
+        int size = pageSize(req.size());
+        int today = today();
+
+        // 2) 조건 매칭 (null = 전체)
+        ForkJoinPool pool = executor.poolFor(snap);
+        long[] bits = match(snap, req, today, pool);
+        long total = bits == null ? snap.size() : Bitmaps.cardinality(bits);
+
+        // 3) 시작 위치: 커서 또는 page * size
+        CatalogSort sort = sortOf(req.sort());
+        Position pos = position(snap, sort, req.page(), size, req.cursor());
+
+        // 4) 정렬별 구간 수집
+        if (sort == CatalogSort.RELEVANCE) {
+            return rankedPage(snap, req, bits, total, pos.page(), size, pos.rank(), today, pool);
+        }
+        int from;
+        if (pos.cursor() != null) from = pos.cursor().from();                 // 커서: 다음 순번
+        else if (pos.rank() >= total) from = snap.size();                     // 범위 밖: 빈 페이지
+        else from = bits == null ? (int) pos.rank() : Bitmaps.select(bits, pos.rank());
+        return catalogPage(snap, bits, total, pos.page(), size, from);
+    }
+
+    /**
+     * 조건에 맞는 전체 순번 (정렬 반영, 결과 캐시용)
+     * @return CATALOG: 순번 오름차순 / RELEVANCE: 점수 내림차순
+     * @throws ResponseStatusException households 규칙 위반, 잘못된 기간/나이 시 400
+     */
+    public int[] order(CatalogSnapshot snap, CatalogSearchRequest req) {
+        validateHouseholds(req.households());
+        int today = today();
+        ForkJoinPool pool = executor.poolFor(snap);
+        long[] bits = match(snap, req, today, pool);
+        if (bits == null) bits = Bitmaps.full(snap.size());
+
+        if (sortOf(req.sort()) == CatalogSort.RELEVANCE) {
+            return CatalogRanker.topK(snap, req, bits, Bitmaps.cardinality(bits), today, pool);
         }
+        int[] out = new int[Bitmaps.cardinality(bits)];
+        int n = 0;
+        for (int i = Bitmaps.nextSetBit(bits, 0); i >= 0; i = Bitmaps.nextSetBit(bits, i + 1)) out[n++] = i;
+        return out;
+    }
+
+    /**
+     * 미리 계산한 순번 목록의 한 페이지 (커서 형식은 search와 동일)
+     * @param order order()로 만든 순번 목록 (snap 기준)
+     * @throws ResponseStatusException 잘못된 페이지/커서 시 400
+     */
+    public CatalogPage<WelfareItemDto> page(CatalogSnapshot snap, int[] order, CatalogSort sort,
+                                            Integer page, Integer size, String cursor) {
+        int pageSize = pageSize(size);
+        sort = sortOf(sort);
+        Position pos = position(snap, sort, page, pageSize, cursor);
+
+        // 1) 시작 순위 (CATALOG 커서는 순번 → 순위 변환, order가 오름차순이므로 이분 탐색)
+        long start = pos.rank();
+        if (pos.cursor() != null && sort == CatalogSort.CATALOG) {
+            int at = Arrays.binarySearch(order, pos.cursor().from());
+            start = at >= 0 ? at : -at - 1;
+        }
+        int from = (int) Math.min(start, order.length);
+        int to = Math.min(from + pageSize, order.length);
 
-        // 2) 전체 데이터 조회
-        List<WelfareItemDto> all = loader.getItems();
-        if (all == null || all.isEmpty()) return List.of();
+        // 2) 구간만 수집
+        List<WelfareItemDto> items = new CatalogItemSlice(snap, Arrays.copyOfRange(order, from, to));
 
-        // 3) 필터 존재 여부 확인
-        boolean noKeyword   = req.keyword() == null || req.keyword().isBlank();
-        boolean noLifecycle = req.lifecycles() == null || req.lifecycles().isEmpty();
-        boolean noHouse     = req.households() == null || req.households().isEmpty();
-        boolean noInterest  = req.interests() == null || req.interests().isEmpty();
+        // 3) 다음 커서 (CATALOG: 다음 순번 / RELEVANCE: 다음 순위)
+        String nextCursor = to < order.length
+                ? new CatalogCursor(snap.version(), sort, pos.page() + 1,
+                        sort == CatalogSort.CATALOG ? order[to] : to).encode()
+                : null;
+        return new CatalogPage<>(items, pos.page(), pageSize, order.length, nextCursor);
+    }
 
-        // 필터 없으면 전체 반환
-        if (noKeyword && noLifecycle && noHouse && noInterest) {
-            return all;
+    /** 카탈로그 순서 페이지: from 순번부터 size개 (요청 구간만 수집) */
+    private static CatalogPage<WelfareItemDto> catalogPage(CatalogSnapshot snap, long[] bits, long total,
+                                                           int page, int size, int from) {
+        int[] ordinals = new int[(int) Math.min(size, total)];
+        int n = 0;
+        int i = next(bits, from, snap.size());
+        for (; i >= 0 && n < size; i = next(bits, i + 1, snap.size())) {
+            ordinals[n++] = i;
         }
+        List<WelfareItemDto> items = new CatalogItemSlice(snap, Arrays.copyOf(ordinals, n));
 
-        // 4) 키워드 정규화(소문자)
-        String kw = noKeyword ? null : req.keyword().toLowerCase(Locale.ROOT);
-
-        // 5) 태그 정규화(대문자 Set)
-        Set<String> lcSet = noLifecycle
-                ? Collections.emptySet()
-                : req.lifecycles().stream().map(String::toUpperCase).collect(Collectors.toSet());
-        Set<String> hhSet = noHouse
-                ? Collections.emptySet()
-                : req.households().stream().map(String::toUpperCase).collect(Collectors.toSet());
-        Set<String> itSet = noInterest
-                ? Collections.emptySet()
-                : req.interests().stream().map(String::toUpperCase).collect(Collectors.toSet());
-
-        // 6) 조건 필터링
-        return all.stream().filter(item -> {
-            // 6-1) 키워드: 복지명/설명/부처 중 하나라도 부분 일치
-            if (kw != null) {
-                String hay = (item.welfareName() + " " + item.description() + " " + item.department())
-                        .toLowerCase(Locale.ROOT);
-                if (!hay.contains(kw)) return false;
-            }
+        // 남은 항목이 있으면 다음 커서 발급
+        String nextCursor = i >= 0
+                ? new CatalogCursor(snap.version(), CatalogSort.CATALOG, page + 1, i).encode() : null;
+        return new CatalogPage<>(items, page, size, total, nextCursor);
+    }
 
-            // 6-2) 생애주기 태그: 교집합 1개 이상
-            if (!lcSet.isEmpty()) {
-                boolean match = item.lifecycles().stream()
-                        .map(String::toUpperCase)
-                        .anyMatch(lcSet::contains);
-                if (!match) return false;
-            }
+    /** 관련도 순 페이지: 상위 (rank + size)개만 힙으로 선택한 뒤 rank 이후 구간 반환 */
+    private static CatalogPage<WelfareItemDto> rankedPage(CatalogSnapshot snap, CatalogSearchRequest req,
+                                                          long[] bits, long total,
+                                                          int page, int size, long rank, int today,
+                                                          ForkJoinPool pool) {
+        int k = (int) Math.min(total, rank + size);
+        if (rank >= k) return new CatalogPage<>(new CatalogItemSlice(snap, new int[0]), page, size, total, null);
+
+        long[] scope = bits != null ? bits : Bitmaps.full(snap.size());
+        int[] top = CatalogRanker.topK(snap, req, scope, k, today, pool);
+
+        List<WelfareItemDto> items = new CatalogItemSlice(snap, Arrays.copyOfRange(top, (int) rank, top.length));
+
+        String nextCursor = k < total
+                ? new CatalogCursor(snap.version(), CatalogSort.RELEVANCE, page + 1, k).encode() : null;
+        return new CatalogPage<>(items, page, size, total, nextCursor);
+    }
+
+    /**
+     * 조건 매칭 비트셋
+     * @param pool 키워드 병렬 검증 풀 (null이면 순차)
+     * @return 일치 항목 비트셋, 조건이 하나도 없으면 null(전체)
+     */
+    private static long[] match(CatalogSnapshot snap, CatalogSearchRequest req, int today, ForkJoinPool pool) {
+        // 1) 태그 조건: 역색인 비트 연산 (태그 조건 없으면 null)
+        long[] bits = snap.tagIndex().match(req.lifecycles(), req.households(), req.interests());
+
+        // 2) 신청 기간 / 지역 / 자격
+        bits = and(bits, window(snap, req.window(), req.withinDays(), today));
+        bits = and(bits, region(snap, req.regionDo(), req.regionSi()));
+        bits = and(bits, eligibility(snap, req.age(), req.gender()));
+
+        // 3) 키워드: n-gram 후보 → 정규화 문자열 검증(복지명/설명/부처 중 하나라도 부분 일치), 없으면 초성/오타 허용
+        if (req.keyword() != null && !req.keyword().isBlank()) {
+            bits = keyword(snap, req.keyword(), bits, pool);
+        }
+        return bits;
+    }
+
+    /**
+     * 키워드 필터 비트셋 (검색/패싯 공용)
+     * - 카탈로그 전체에 부분 일치 항목이 하나도 없을 때만 복지명 초성 검색(초성만 입력) 또는
+     *   오타 허용 검색(단어별 편집 거리 1~2)으로 대체한 뒤 within과 AND
+     *   · 대체 여부를 within과 무관하게 정하므로 keyword(within) = keyword(null) ∧ within
+     *     (다른 조건을 먼저 거는 검색과 나중에 거는 패싯 건수가 같은 결과를 냄)
+     *   · within 안에서 비었을 때만 전체 부분 일치를 다시 확인 (일치가 있는 흔한 경우는 추가 비용 없음)
+     * @param within 후보 제한 비트셋 (null이면 전체)
+     * @param pool   키워드 병렬 검증 풀 (null이면 순차)
+     * @return 일치 항목 비트셋 (새 배열)
+     */
+    static long[] keyword(CatalogSnapshot snap, String keyword, long[] within, ForkJoinPool pool) {
+        // 1) within 안의 부분 일치 (있으면 전체에도 있으므로 그대로 반환)
+        String normalized = CatalogKeywordIndex.normalize(keyword);
+        long[] bits = snap.keywordIndex().match(normalized, within, pool);
+        if (Bitmaps.nextSetBit(bits, 0) >= 0) return bits;
 
-            // 6-3) 가구상황 태그: 교집합 1개 이상
-            if (!hhSet.isEmpty()) {
-                boolean match = item.households().stream()
-                        .map(String::toUpperCase)
-                        .anyMatch(hhSet::contains);
-                if (!match) return false;
+        // 2) 전체에 부분 일치가 있으면 대체하지 않음 (within 밖에만 있는 경우)
+        if (within != null && Bitmaps.nextSetBit(snap.keywordIndex().match(normalized, null, pool), 0) >= 0) {
+            return bits;
+        }
+
+        // 3) 초성/오타 허용 대체 ∧ within
+        long[] fuzzy = snap.fuzzyIndex().match(normalized);
+        if (within != null) Bitmaps.and(fuzzy, within);
+        return fuzzy;
+    }
+
+    /**
+     * 신청 기간 필터 비트셋
+     * @param today 기준일 (epoch-day)
+     * @return 일치 항목 비트셋 (새 배열), window가 null이면 null(조건 없음)
+     * @throws ResponseStatusException withinDays 범위 밖이면 400
+     */
+    static long[] window(CatalogSnapshot snap, CatalogDateWindow window, Integer withinDays, int today) {
+        if (window == null) return null;
+        int days = withinDays(withinDays);
+        CatalogDateIndex dates = snap.dateIndex();
+        return switch (window) {
+            case OPEN -> open(dates, today);
+            case CLOSING_SOON -> {
+                long[] bits = open(dates, today);
+                Bitmaps.and(bits, dates.endingBetween(today, today + days));
+                yield bits;
             }
+            case OPENING_SOON -> dates.startingBetween(today + 1, today + days);
+        };
+    }
+
+    /**
+     * 지역 필터 비트셋 (거주지 기준 전국 + 시·도 전체 + 시·군·구)
+     * @return 새 비트셋, regionDo가 비어 있으면 null(조건 없음)
+     */
+    static long[] region(CatalogSnapshot snap, String regionDo, String regionSi) {
+        if (CatalogRegionIndex.normalize(regionDo) == null) return null;
+        return snap.regionIndex().eligible(regionDo, regionSi);
+    }
+
+    /**
+     * 자격 필터 비트셋 (나이 범위 ∧ 성별)
+     * @return 새 비트셋, 나이/성별이 모두 없으면 null(조건 없음)
+     * @throws ResponseStatusException 음수 나이면 400
+     */
+    static long[] eligibility(CatalogSnapshot snap, Integer age, Gender gender) {
+        if (age != null && age < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "age: must be >= 0");
+        }
+        return snap.eligibilityIndex().eligible(age, gender);
+    }
+
+    /** acc ∧ bits (null = 조건 없음, acc를 제자리 갱신하므로 새 배열만 넘길 것) */
+    private static long[] and(long[] acc, long[] bits) {
+        if (bits == null) return acc;
+        if (acc == null) return bits;
+        Bitmaps.and(acc, bits);
+        return acc;
+    }
 
-            // 6-4) 관심주제 태그: 교집합 1개 이상
-            if (!itSet.isEmpty()) {
-                boolean match = item.interests().stream()
-                        .map(String::toUpperCase)
-                        .anyMatch(itSet::contains);
-                if (!match) return false;
+    /** 오늘 신청 가능: 시작일 ≤ 오늘 ∧ 마감일 ≥ 오늘 */
+    private static long[] open(CatalogDateIndex dates, int today) {
+        long[] bits = dates.startingBetween(CatalogDateIndex.MIN_DAY, today);
+        Bitmaps.and(bits, dates.endingBetween(today, CatalogDateIndex.MAX_DAY));
+        return bits;
+    }
+
+    /** 요청의 조건 유형 + 정렬에 맞는 미터 (처음 보는 조합이면 등록) */
+    private SearchMeters searchMeters(CatalogSearchRequest req) {
+        int shape = 0;
+        if (req.keyword() != null && !req.keyword().isBlank()) shape |= 1;
+        if (notEmpty(req.lifecycles()) || notEmpty(req.households()) || notEmpty(req.interests())) shape |= 2;
+        if (req.window() != null) shape |= 4;
+        if (CatalogRegionIndex.normalize(req.regionDo()) != null) shape |= 8;
+        if (req.age() != null || req.gender() != null) shape |= 16;
+        CatalogSort sort = sortOf(req.sort());
+
+        return searchMeters.computeIfAbsent(shape << 1 | sort.ordinal(), k -> {
+            String shapeTag = shapeTag(k >>> 1);
+            return new SearchMeters(
+                    Timer.builder(SEARCH_TIMER)
+                            .description("catalog search latency")
+                            .tag("shape", shapeTag)
+                            .tag("sort", sort.name())
+                            .register(meterRegistry),
+                    DistributionSummary.builder(SEARCH_RESULTS)
+                            .description("matched items per catalog search")
+                            .tag("shape", shapeTag)
+                            .tag("sort", sort.name())
+                            .register(meterRegistry));
+        });
+    }
+
+    private static String shapeTag(int shape) {
+        if (shape == 0) return "none";
+        StringJoiner out = new StringJoiner("+");
+        for (int b = 0; b < SHAPE_PARTS.length; b++) {
+            if ((shape & (1 << b)) != 0) out.add(SHAPE_PARTS[b]);
+        }
+        return out.toString();
+    }
+
+    private static boolean notEmpty(List<String> codes) {
+        return codes != null && !codes.isEmpty();
+    }
+
+    /** 오늘 (epoch-day, Asia/Seoul) */
+    static int today() {
+        return (int) LocalDate.now(CatalogRanker.ZONE).toEpochDay();
+    }
+
+    /**
+     * 페이지 시작 위치 해석
+     * @throws ResponseStatusException 음수 page, 형식 오류/만료/정렬 불일치 커서 시 400
+     */
+    private static Position position(CatalogSnapshot snap, CatalogSort sort, Integer page, int size, String cursor) {
+        if (cursor != null && !cursor.isBlank()) {
+            CatalogCursor c = CatalogCursor.decode(cursor);
+            if (c.version() != snap.version()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor: expired, catalog was reloaded");
+            }
+            if (c.sort() != sort) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor: sort mismatch");
             }
+            return new Position(c.page(), c.from(), c);
+        }
+        int p = page == null ? 0 : page;
+        if (p < 0) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page: must be >= 0");
+        return new Position(p, (long) p * size, null);
+    }
 
-            return true;
-        }).toList();
+    /** households 검증: NONE은 단독만 허용 */
+    static void validateHouseholds(List<String> hs) {
+        if (hs == null) return;
+        boolean containsNone = hs.stream().anyMatch(s -> "NONE".equalsIgnoreCase(s));
+        if (containsNone && hs.size() > 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "households: NONE must be alone");
+        }
+    }
+
+    /** from 이상에서 처음 일치하는 순번 (bits == null이면 전체), 없으면 -1 */
+    private static int next(long[] bits, int from, int n) {
+        if (bits == null) return from < n ? from : -1;
+        return Bitmaps.nextSetBit(bits, from);
+    }
+
+    private static CatalogSort sortOf(CatalogSort sort) {
+        return sort == null ? CatalogSort.CATALOG : sort;
+    }
+
+    /** 기간 일수 (기본값 적용, 범위 검증) */
+    private static int withinDays(Integer days) {
+        if (days == null) return DEFAULT_WITHIN_DAYS;
+        if (days < 1 || days > MAX_WITHIN_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "withinDays: must be between 1 and " + MAX_WITHIN_DAYS);
+        }
+        return days;
+    }
+
+    /**
+     * 페이지 크기 (기본값 적용, 최대값 제한, 검색 캐시 키와 공용)
+     * @throws ResponseStatusException 1 미만이면 400
+     */
+    static int pageSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        if (size < 1) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size: must be >= 1");
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 }
@@ -0,0 +1,37 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogDataLoader;
+import com.benefitmap.backend.catalog.index.CatalogSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * 카탈로그 자동완성 서비스
+ * - 현재 스냅샷의 접두사 트라이(CatalogSuggestIndex)에서 미리 계산된 상위 후보를 그대로 반환
+ * - 항목 DTO를 만들지 않고 문자열만 돌려주므로 입력마다 호출해도 부담이 작다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogSuggestService {
+
+    /** 기본 후보 수 */
+    public static final int DEFAULT_SIZE = CatalogSuggestIndex.MAX_SUGGESTIONS;
+
+    private final CatalogDataLoader loader;
+
+    /**
+     * 자동완성 후보
+     * @param q    입력 중인 문자열 (비어 있으면 빈 목록)
+     * @param size 최대 개수 (null이면 DEFAULT_SIZE, MAX_SUGGESTIONS 초과는 잘라냄)
+     * @throws ResponseStatusException size가 1 미만이면 400
+     */
+    public List<String> suggest(String q, Integer size) {
+        int limit = size == null ? DEFAULT_SIZE : size;
+        if (limit < 1) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size: must be >= 1");
+        return loader.snapshot().suggestIndex().suggest(q, limit);
+    }
+}
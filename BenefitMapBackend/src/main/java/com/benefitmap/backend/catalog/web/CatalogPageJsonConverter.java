@@ -0,0 +1,127 @@
+package com.benefitmap.backend.catalog.web;
+
+import com.benefitmap.backend.catalog.CatalogItemSlice;
+import com.benefitmap.backend.catalog.dto.CatalogPage;
+import com.benefitmap.backend.common.api.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 카탈로그 페이지 응답 변환기 (쓰기 전용)
+ * - ApiResponse<CatalogPage<?>> 응답의 항목을 스냅샷에 미리 인코딩된 JSON 바이트로 이어 붙여 출력
+ * - 봉투(success/message/timestamp)와 페이지 정보만 ObjectMapper로 직렬화
+ * - 출력 형식은 기본 Jackson 변환기와 같음 (필드 순서 = record 선언 순서)
+ * - 항목이 CatalogItemSlice가 아니면 항목도 ObjectMapper로 직렬화
+ */
+public class CatalogPageJsonConverter extends AbstractGenericHttpMessageConverter<ApiResponse<?>> {
+
+    private static final byte[] SUCCESS = ascii("{\"success\":");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] DATA_ITEMS = ascii(",\"data\":{\"items\":[");
+    private static final byte[] PAGE = ascii("],\"page\":");
+    private static final byte[] SIZE = ascii(",\"size\":");
+    private static final byte[] TOTAL = ascii(",\"totalElements\":");
+    private static final byte[] NEXT_CURSOR = ascii(",\"nextCursor\":");
+    private static final byte[] TIMESTAMP = ascii("},\"timestamp\":");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ObjectMapper mapper;
+
+    public CatalogPageJsonConverter(ObjectMapper mapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    /** 선언 타입이 ApiResponse<CatalogPage<...>>인 응답만 처리 */
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (type == null || !supports(clazz) || !canWrite(mediaType)) return false;
+        ResolvableType rt = ResolvableType.forType(type);
+        return rt.getGeneric(0).toClass() == CatalogPage.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public ApiResponse<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("write-only converter", inputMessage);
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("write-only converter", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputMessage.getBody(), BUFFER_SIZE);
+
+        // 1) 페이지가 아니면(null 등) 일반 직렬화
+        if (!(body.data() instanceof CatalogPage<?> page)) {
+            out.write(mapper.writeValueAsBytes(body));
+            out.flush();
+            return;
+        }
+
+        // 2) 봉투 앞부분
+        out.write(SUCCESS);
+        out.write(body.success() ? TRUE : FALSE);
+        out.write(MESSAGE);
+        out.write(mapper.writeValueAsBytes(body.message()));
+
+        // 3) 항목: 미리 인코딩된 바이트 이어 붙이기
+        out.write(DATA_ITEMS);
+        List<?> items = page.items();
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) out.write(',');
+            if (items instanceof CatalogItemSlice slice) out.write(slice.json(i));
+            else out.write(mapper.writeValueAsBytes(items.get(i)));
+        }
+
+        // 4) 페이지 정보 + 봉투 뒷부분
+        out.write(PAGE);
+        out.write(ascii(Integer.toString(page.page())));
+        out.write(SIZE);
+        out.write(ascii(Integer.toString(page.size())));
+        out.write(TOTAL);
+        out.write(ascii(Long.toString(page.totalElements())));
+        out.write(NEXT_CURSOR);
+        out.write(mapper.writeValueAsBytes(page.nextCursor()));
+        out.write(TIMESTAMP);
+        out.write(mapper.writeValueAsBytes(body.timestamp()));
+        out.write('}');
+        out.flush();
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
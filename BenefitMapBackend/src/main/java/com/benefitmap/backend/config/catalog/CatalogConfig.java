@@ -0,0 +1,12 @@
+package com.benefitmap.backend.config.catalog;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 카탈로그 설정
+ * - CatalogProperties 바인딩 활성화
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogProperties.class)
+public class CatalogConfig {}
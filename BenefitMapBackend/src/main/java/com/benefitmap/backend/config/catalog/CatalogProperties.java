@@ -0,0 +1,54 @@
+package com.benefitmap.backend.config.catalog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 카탈로그 프로퍼티
+ * - app.catalog.* 바인딩
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.catalog")
+public class CatalogProperties {
+
+    /** 외부 카탈로그 JSON 파일 경로 (비어 있으면 classpath:catalog/welfare_dummy.json) */
+    private String path;
+
+    /** 외부 파일 변경 감지 시 자동 재적재 여부 */
+    private boolean watch = true;
+
+    /** 바이너리 스냅샷 파일 경로 (비어 있으면 사용 안 함) */
+    private String snapshotPath;
+
+    /** 사용자별 추천 캐시 최대 항목 수 */
+    private long recommendCacheSize = 10_000;
+
+    /** 사용자별 추천 캐시 유지 시간 (마지막 접근 기준) */
+    private Duration recommendCacheTtl = Duration.ofMinutes(30);
+
+    /** 검색 결과 캐시 최대 항목 수 */
+    private long searchCacheSize = 1_000;
+
+    /** 검색 결과 캐시 유지 시간 (저장 기준) */
+    private Duration searchCacheTtl = Duration.ofMinutes(10);
+
+    /** 병렬 검색(키워드 검증/관련도 점수)을 켜는 최소 카탈로그 항목 수 */
+    private int parallelThreshold = 50_000;
+
+    /** 병렬 검색 전용 풀 스레드 수 (0 이하면 CPU 코어 수) */
+    private int parallelism = 0;
+
+    /** 외부 파일 경로 지정 여부 */
+    public boolean hasExternalPath() {
+        return path != null && !path.isBlank();
+    }
+
+    /** 바이너리 스냅샷 사용 여부 */
+    public boolean hasSnapshotPath() {
+        return snapshotPath != null && !snapshotPath.isBlank();
+    }
+}
@@ -0,0 +1,28 @@
+package com.benefitmap.backend.config.catalog;
+
+import com.benefitmap.backend.catalog.web.CatalogPageJsonConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 카탈로그 웹 설정
+ * - 카탈로그 페이지 응답 변환기를 기본 Jackson 변환기 앞에 등록
+ * - 변환기는 기본 Jackson 변환기의 ObjectMapper를 그대로 사용 (spring.jackson.* 설정 공유)
+ */
+@Configuration
+public class CatalogWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson) {
+                converters.add(i, new CatalogPageJsonConverter(jackson.getObjectMapper()));
+                return;
+            }
+        }
+    }
+}
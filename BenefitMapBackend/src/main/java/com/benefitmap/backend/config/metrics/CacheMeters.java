@@ -0,0 +1,27 @@
+package com.benefitmap.backend.config.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caffeine 캐시 계측
+ * - CaffeineCacheMetrics: cache.gets(result=hit/miss), cache.evictions, cache.size 등 (tag cache=이름)
+ * - benefitmap.cache.hit.ratio: 누적 적중률 게이지 (대시보드에서 바로 확인용)
+ * - 캐시는 recordStats()로 만들어야 값이 기록된다.
+ */
+public final class CacheMeters {
+
+    private CacheMeters() {
+    }
+
+    public static <C extends Cache<?, ?>> C monitor(MeterRegistry registry, C cache, String name) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        Gauge.builder("benefitmap.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", name)
+                .description("cumulative hit ratio")
+                .register(registry);
+        return cache;
+    }
+}
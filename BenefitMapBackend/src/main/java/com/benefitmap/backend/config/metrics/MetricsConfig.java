@@ -0,0 +1,22 @@
+package com.benefitmap.backend.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * - @Timed 메서드 계측을 위한 TimedAspect 등록 (TagQueryService, CalendarService, MailService)
+ * - 지연 시간 백분위/히스토그램은 application.properties의 management.metrics.distribution.*로
+ *   benefitmap.* 메트릭 전체에 한 번에 적용
+ * - 수집: /actuator/prometheus (Authorization: Bearer <app.metrics.scrape-token>, SecurityConfig)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
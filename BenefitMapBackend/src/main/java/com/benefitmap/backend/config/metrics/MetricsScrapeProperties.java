@@ -0,0 +1,37 @@
+package com.benefitmap.backend.config.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 메트릭 수집 프로퍼티
+ * - app.metrics.scrape-token: Prometheus가 /actuator/prometheus 요청에 보내는 전용 Bearer 토큰
+ *   · 사용자 JWT와 무관한 고정 자격 증명 (만료 없음, 수집기 설정의 authorization.credentials에 지정)
+ *   · 비어 있으면 수집 엔드포인트는 모두 거부
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.metrics")
+public class MetricsScrapeProperties {
+
+    private static final String BEARER = "Bearer ";
+
+    /** 수집 전용 Bearer 토큰 */
+    private String scrapeToken;
+
+    /**
+     * Authorization 헤더가 수집 토큰과 일치하는지 (상수 시간 비교)
+     * @param authorization Authorization 헤더 값 (없으면 null)
+     */
+    public boolean matches(String authorization) {
+        if (scrapeToken == null || scrapeToken.isBlank()) return false;
+        if (authorization == null || !authorization.startsWith(BEARER)) return false;
+        return MessageDigest.isEqual(
+                scrapeToken.getBytes(StandardCharsets.UTF_8),
+                authorization.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,12 @@
+package com.benefitmap.backend.config.security;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * JWT 서명키 설정
+ * - 스케줄링 활성화 (JwtKeys의 키 디렉터리 주기적 재적재)
+ */
+@Configuration
+@EnableScheduling
+public class JwtKeyConfig {}
@@ -4,10 +4,13 @@ import lombok.RequiredArgsConstructor;
 import com.benefitmap.backend.auth.oauth.CustomOAuth2UserService;
 import com.benefitmap.backend.auth.jwt.JwtAuthenticationFilter;
 import com.benefitmap.backend.auth.oauth.OAuth2SuccessHandler;
+import com.benefitmap.backend.config.metrics.MetricsScrapeProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -24,17 +27,19 @@ import java.util.List;
  * - 엔드포인트 권한 정책 정의
  * - OAuth2 로그인 및 커스텀 성공 핸들러 연동
  * - CORS 허용 오리진을 외부 프로퍼티에서 주입
+ * - 메트릭 수집(/actuator/prometheus)은 사용자 JWT가 아닌 전용 수집 토큰(app.metrics.scrape-token)으로만 허용
  */
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
-@EnableConfigurationProperties(AppCorsProperties.class)
+@EnableConfigurationProperties({AppCorsProperties.class, MetricsScrapeProperties.class})
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
     private final OAuth2SuccessHandler successHandler;
     private final CustomOAuth2UserService oAuth2UserService;
     private final AppCorsProperties corsProps;
+    private final MetricsScrapeProperties scrapeProps;
 
     // ✅ 추가: ClientRegistrationRepository 주입 필요
     private final ClientRegistrationRepository clientRegistrationRepository;
@@ -78,13 +83,24 @@ public class SecurityConfig {
                                 "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**"
                         ).permitAll()
 
+                        // 헬스 체크 공개, 메트릭 수집(Prometheus)은 수집 토큰 Bearer만 (지연/캐시/JVM 내부 정보 노출 방지)
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus")
+                        .access((authentication, ctx) -> new AuthorizationDecision(
+                                scrapeProps.matches(ctx.getRequest().getHeader(HttpHeaders.AUTHORIZATION))))
+
                         // 카탈로그(테스트 공개)
                         .requestMatchers(HttpMethod.GET, "/api/catalog/_debug/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/catalog/search").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/catalog/facets").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/catalog/suggest").permitAll()
 
                         // 로그인/OAuth 콜백
                         .requestMatchers("/login/success", "/oauth2/authorization/**", "/login/oauth2/**").permitAll()
 
+                        // JWT 검증 공개키
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
+
                         // 인증 관련
                         .requestMatchers("/auth/refresh").permitAll()
                         .requestMatchers("/auth/logout").authenticated()
@@ -1,5 +1,6 @@
 package com.benefitmap.backend.mail;
 
+import com.benefitmap.backend.auth.principal.AuthPrincipal;
 import com.benefitmap.backend.mail.dto.SendMailRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,27 +45,6 @@ public class MailController {
 
     private final MailService mailService;
 
-    /**
-     * 현재 로그인한 사용자를 표현할 (예시용) Principal 클래스.
-     *
-     * - 실제 서비스에선 SecurityContext에 올라가는 Principal(예: JwtUserPrincipal, AuthUser 등)
-     *   타입이 이미 있을 것이다.
-     * - 그 타입에는 userId, email, role 등이 들어있을 가능성이 높다.
-     *
-     * 여기서는 "email이 무엇인지" 정도만 필요하므로, 간단한 DTO 느낌으로 준다.
-     * 그대로 쓰지 말고 실제 프로젝트의 Principal로 교체할 것.
-     */
-    public static class CustomUserPrincipal {
-        private final Long id;
-        private final String email;
-        public CustomUserPrincipal(Long id, String email) {
-            this.id = id;
-            this.email = email;
-        }
-        public Long getId()   { return id; }
-        public String getEmail() { return email; }
-    }
-
     // ========================================================================
     // 1. 마감 임박/디데이 알림 메일 전송 (공개 엔드포인트)
     // ========================================================================
@@ -128,7 +108,7 @@ public class MailController {
      *   - 여기서는 @PreAuthorize("isAuthenticated()") 사용
      *
      * 처리 흐름:
-     *  1) SecurityContext에서 현재 사용자 정보(@AuthenticationPrincipal) 가져온다.
+     *  1) SecurityContext에서 현재 사용자 정보(@AuthenticationPrincipal, JwtAuthenticationFilter가 올린 AuthPrincipal) 가져온다.
      *  2) 본인 이메일(loginEmail)을 추출한다.
      *  3) 요청 JSON의 "to" 필드가 loginEmail과 동일한지 확인한다.
      *     → 다르면 FORBIDDEN (본인 메일로만 보내게 강제)
@@ -143,8 +123,7 @@ public class MailController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> sendMailToSelf(
             @RequestBody SendMailRequest request,
-            @AuthenticationPrincipal CustomUserPrincipal me
-            // ↑ 실제 Principal 타입(예: JwtUserPrincipal 등)으로 교체할 것
+            @AuthenticationPrincipal AuthPrincipal me
     ) {
         // 1) 인증 여부 확인
         if (me == null) {
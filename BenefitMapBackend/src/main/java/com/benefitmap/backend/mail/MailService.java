@@ -1,6 +1,7 @@
 package com.benefitmap.backend.mail;
 
 import com.benefitmap.backend.mail.dto.SendMailRequest;
+import io.micrometer.core.annotation.Timed;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,9 @@ import org.springframework.stereotype.Service;
  *
  * 로깅
  * - 전송 시도 / 성공 / 실패 로그를 남겨서 운영 시 추적 가능하게 한다.
+ *
+ * 메트릭
+ * - sendMail 처리 시간을 benefitmap.mail.send 타이머로 기록 (실패 시 exception 태그)
  */
 @Slf4j
 @Service
@@ -72,6 +76,7 @@ public class MailService {
      *  - MessagingException → RuntimeException으로 래핑해서 throw
      *  - MailException → 그대로 throw (컨트롤러에서 잡아서 500 응답)
      */
+    @Timed(value = "benefitmap.mail.send", description = "mail send latency")
     public void sendMail(SendMailRequest request) {
         log.info("✉️  sendMail: from={}, to={}, subject={}, html={}",
                 fromAddress, request.to(), request.subject(), request.html());
@@ -1,5 +1,6 @@
 package com.benefitmap.backend.onboarding;
 
+import com.benefitmap.backend.auth.principal.UserAccountChangedEvent;
 import com.benefitmap.backend.onboarding.dto.OnboardingRequest;
 import com.benefitmap.backend.tag.entity.*;
 import com.benefitmap.backend.tag.repo.*;
@@ -11,6 +12,7 @@ import com.benefitmap.backend.user.repo.UserProfileRepository;
 import com.benefitmap.backend.user.repo.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,9 +38,12 @@ public class OnboardingService {
     private final UserLifecycleTagRepository userLifecycleRepo;
     private final UserHouseholdTagRepository userHouseholdRepo;
     private final UserInterestTagRepository userInterestRepo;
+    private final ApplicationEventPublisher events;
 
     /**
      * 온보딩 데이터 저장(프로필 + 태그 매핑 + 유저 상태 활성화)
+     * - 태그 변경 이벤트 발행 (커밋 후 추천 캐시 무효화)
+     * - 역할/상태가 바뀌면 계정 변경 이벤트 발행 (커밋 후 인증 주체 캐시 무효화)
      */
     @Transactional
     public void save(Long userId, OnboardingRequest req) {
@@ -119,6 +124,8 @@ public class OnboardingService {
         );
 
         // 5. 역할/상태 전환 (ADMIN이면 role은 그대로 유지)
+        Role roleBefore = user.getRole();
+        UserStatus statusBefore = user.getStatus();
         if (user.getRole() != Role.ROLE_ADMIN) {
             user.setRole(Role.ROLE_USER);
         }
@@ -127,6 +134,12 @@ public class OnboardingService {
         }
 
         userRepo.save(user);
+
+        // 6. 태그 변경 알림 (+ 역할/상태가 바뀌었으면 계정 변경 알림)
+        events.publishEvent(new UserTagsChangedEvent(userId));
+        if (user.getRole() != roleBefore || user.getStatus() != statusBefore) {
+            events.publishEvent(new UserAccountChangedEvent(userId));
+        }
     }
 
     /**
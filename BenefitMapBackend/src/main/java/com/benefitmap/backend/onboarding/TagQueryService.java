@@ -2,6 +2,7 @@ package com.benefitmap.backend.onboarding;
 
 import com.benefitmap.backend.onboarding.dto.TagDto;
 import com.benefitmap.backend.tag.repo.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -60,7 +61,9 @@ public class TagQueryService {
     /**
      * 사용자 온보딩 태그 코드 조회
      * - 생애주기 / 가구상황 / 관심주제별 코드 리스트 반환
+     * - 조회 시간은 benefitmap.onboarding.user-tags 타이머로 기록
      */
+    @Timed(value = "benefitmap.onboarding.user-tags", description = "user onboarding tag lookup latency")
     public UserTagCodes getUserTagCodes(Long userId) {
         List<String> lifecycles = userLifecycleRepo.findCodesByUserId(userId);
         List<String> households = userHouseholdRepo.findCodesByUserId(userId);
@@ -0,0 +1,11 @@
+package com.benefitmap.backend.onboarding;
+
+/**
+ * 사용자 온보딩 태그 변경 이벤트
+ * - 온보딩 저장 / 마이페이지 수정 / 탈퇴 시 발행 (태그와 함께 프로필 거주지/나이/성별도 바뀌는 경로)
+ * - 추천 캐시 등 태그/프로필 기반 파생 데이터 무효화용 (커밋 후 처리)
+ * - 추천 캐시는 프로필을 이 이벤트로만 다시 읽으므로, 거주지/나이/성별을 바꾸는 새 경로도 반드시 발행할 것
+ *
+ * @param userId 태그가 바뀐 사용자 ID
+ */
+public record UserTagsChangedEvent(Long userId) {}
@@ -1,7 +1,10 @@
 package com.benefitmap.backend.user.controller;
 
+import com.benefitmap.backend.auth.principal.AuthPrincipal;
+import com.benefitmap.backend.auth.principal.UserAccountChangedEvent;
 import com.benefitmap.backend.auth.token.RefreshTokenRepository;
 import com.benefitmap.backend.common.api.ApiResponse;
+import com.benefitmap.backend.onboarding.UserTagsChangedEvent;
 import com.benefitmap.backend.tag.entity.UserHouseholdTag;
 import com.benefitmap.backend.tag.entity.UserHouseholdTagId;
 import com.benefitmap.backend.tag.entity.UserInterestTag;
@@ -25,6 +28,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
@@ -57,6 +61,7 @@ public class UserController {
     private final UserLifecycleTagRepository userLifecycleTagRepository;
     private final UserHouseholdTagRepository userHouseholdTagRepository;
     private final UserInterestTagRepository userInterestTagRepository;
+    private final ApplicationEventPublisher events;
 
     /** HTTPS라면 true → Secure 쿠키 + SameSite=None */
     @Value("${app.cookie.secure:true}")
@@ -68,7 +73,8 @@ public class UserController {
             RefreshTokenRepository refreshTokenRepository,
             UserLifecycleTagRepository userLifecycleTagRepository,
             UserHouseholdTagRepository userHouseholdTagRepository,
-            UserInterestTagRepository userInterestTagRepository
+            UserInterestTagRepository userInterestTagRepository,
+            ApplicationEventPublisher events
     ) {
         this.userRepository = userRepository;
         this.userProfileRepository = userProfileRepository;
@@ -76,6 +82,7 @@ public class UserController {
         this.userLifecycleTagRepository = userLifecycleTagRepository;
         this.userHouseholdTagRepository = userHouseholdTagRepository;
         this.userInterestTagRepository = userInterestTagRepository;
+        this.events = events;
     }
 
     /* =========================================================
@@ -413,6 +420,9 @@ public class UserController {
             }
         }
 
+        // 태그 변경 알림 (커밋 후 추천 캐시 무효화)
+        events.publishEvent(new UserTagsChangedEvent(userId));
+
         // 수정 후 최신 상태 그대로 반환
         return getMe();
     }
@@ -474,6 +484,8 @@ public class UserController {
 
         try { refreshTokenRepository.deleteByUser_Id(userId); } catch (Exception ignored) {}
         try { userRepository.deleteById(userId); } catch (Exception ignored) {}
+        events.publishEvent(new UserTagsChangedEvent(userId));
+        events.publishEvent(new UserAccountChangedEvent(userId));
 
         return okWithExpiredCookies("deleted");
     }
@@ -493,6 +505,7 @@ public class UserController {
 
         Object principal = auth.getPrincipal();
 
+        if (principal instanceof AuthPrincipal p) return p.getId();
         if (principal instanceof Number n) return n.longValue();
         if (principal instanceof String s) {
             try { return Long.parseLong(s); } catch (Exception ignored) {}
@@ -0,0 +1,66 @@
+package com.benefitmap.backend.auth.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenHashes 단위 테스트
+ * - 알려진 SHA-256 hex 값에 고정 (빈 문자열, ASCII, 2·3·4바이트 UTF-8)
+ * - 작업 버퍼 경로와 getBytes 경로(MAX_BUFFERED_LENGTH 초과)가 같은 값을 내는지
+ * - 짝 없는 대리 문자는 String.getBytes(UTF_8)처럼 '?'로 인코딩 (저장된 해시와 호환)
+ */
+class TokenHashesTest {
+
+    @Test
+    void knownVectors() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", TokenHashes.sha256Hex(""));
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", TokenHashes.sha256Hex("abc"));
+    }
+
+    @Test
+    void nonAsciiVectors() {
+        assertEquals("4a99557e4033c3539de2eb65472017cad5f9557f7a0625a09f1c3f6e2ba69c4c", TokenHashes.sha256Hex("é"));
+        assertEquals("bd87f9bb68b67d2fa1cb82b6751820e946d5b1316d25d5fd96512fb4be44a2a8", TokenHashes.sha256Hex("한글"));
+        assertEquals("77ac21a7aa875f8a0b61d8793f540d165589ff597e6db4db3d0a466edd092256", TokenHashes.sha256Hex("토큰😀"));
+    }
+
+    @Test
+    void longInputUsesSameEncoding() {
+        assertEquals("c4a700f85b7e9e5cdbdc51170409ee2ad48bebe2f2f0957a067937531a0a3c42",
+                TokenHashes.sha256Hex("a".repeat(2000)));
+        assertEquals("76271a72fe66683e43db29a01ceaed8b8b58dc0efa15c84a41b3fb91f8b45fcc",
+                TokenHashes.sha256Hex("가".repeat(1025)));
+    }
+
+    @Test
+    void unpairedSurrogateBecomesQuestionMark() {
+        String expected = "98b24bb90aca85539bc2a0c7616713bea77d7fbd41d190c61cf153bf7f508f90";  // "x?y"
+        assertEquals(expected, TokenHashes.sha256Hex("x\uD83Dy"));
+        assertEquals(expected, TokenHashes.sha256Hex("x\uDE00y"));
+    }
+
+    @Test
+    void encodeUtf8MatchesGetBytes() {
+        for (String s : new String[]{"", "eyJhbGciOiJIUzI1NiJ9.e30.sig", "é", "한글", "😀", "a\uD83D", "\uDE00b",
+                "\uD83D😀", "߿ࠀ￿"}) {
+            byte[] out = new byte[s.length() * 3];
+            int n = TokenHashes.encodeUtf8(s, out);
+            assertArrayEquals(s.getBytes(StandardCharsets.UTF_8), Arrays.copyOf(out, n), s);
+        }
+    }
+
+    @Test
+    void matchesMessageDigest() throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        for (String s : new String[]{"refresh-token", "한글😀", "x".repeat(1024), "x".repeat(1025)}) {
+            String expected = HexFormat.of().formatHex(md.digest(s.getBytes(StandardCharsets.UTF_8)));
+            assertEquals(expected, TokenHashes.sha256Hex(s), s);
+        }
+    }
+}
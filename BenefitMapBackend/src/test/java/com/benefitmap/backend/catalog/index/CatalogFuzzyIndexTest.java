@@ -0,0 +1,99 @@
+package com.benefitmap.backend.catalog.index;
+
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CatalogFuzzyIndex 단위 테스트
+ * - 초성 투영/부분 일치, symmetric delete 오타 허용(치환/전치/삽입), 단어 길이별 허용 거리
+ */
+class CatalogFuzzyIndexTest {
+
+    private static final CatalogFuzzyIndex INDEX = index(
+            "출산지원금",             // 0
+            "청년 월세 지원",          // 1
+            "Youth Housing Support", // 2
+            "노인 돌봄 서비스"          // 3
+    );
+
+    @Test
+    void chosungProjection() {
+        assertEquals("ㅊㅅㅈㅇㄱ", CatalogFuzzyIndex.chosungOf("출산 지원금"));
+        assertEquals("ㅊㄴ2030", CatalogFuzzyIndex.chosungOf("청년 2030"));
+    }
+
+    @Test
+    void chosungQueryNeedsTwoJamo() {
+        assertTrue(CatalogFuzzyIndex.isChosungQuery("ㅊㅅ"));
+        assertTrue(CatalogFuzzyIndex.isChosungQuery("ㅊㄴ ㅇㅅ"));
+        assertFalse(CatalogFuzzyIndex.isChosungQuery("ㅊ"));
+        assertFalse(CatalogFuzzyIndex.isChosungQuery("ㅊㅅa"));
+        assertFalse(CatalogFuzzyIndex.isChosungQuery("출산"));
+    }
+
+    @Test
+    void chosungMatchesNameProjection() {
+        assertArrayEquals(new int[] {0}, ords(INDEX.match("ㅊㅅㅈㅇ")));
+        assertArrayEquals(new int[] {1}, ords(INDEX.match("ㅇㅅ ㅈㅇ")));    // 공백 무시, 단어 경계 넘어 일치
+        assertArrayEquals(new int[] {0, 1}, ords(INDEX.match("ㅈㅇ")));
+        assertArrayEquals(new int[0], ords(INDEX.match("ㅎㅎㅎ")));
+    }
+
+    @Test
+    void typoWithinDistance() {
+        assertArrayEquals(new int[] {0}, ords(INDEX.match("출산지원굼")));     // 5자: 치환 1
+        assertArrayEquals(new int[] {2}, ords(INDEX.match("huosing")));       // 7자: 인접 전치 1
+        assertArrayEquals(new int[] {2}, ords(INDEX.match("husing")));        // 6자: 누락 1
+        assertArrayEquals(new int[] {2}, ords(INDEX.match("houssingg")));     // 9자: 추가 2
+    }
+
+    @Test
+    void typoBeyondDistanceDoesNotMatch() {
+        assertArrayEquals(new int[0], ords(INDEX.match("출산지훤굼")));       // 5자: 거리 2 > 1
+        assertArrayEquals(new int[0], ords(INDEX.match("hosng")));            // 5자 쿼리는 거리 1까지 (housing과 2)
+        assertArrayEquals(new int[0], ords(INDEX.match("얼세")));             // 2자: 정확히 같은 단어만
+        assertArrayEquals(new int[] {1}, ords(INDEX.match("월세")));
+    }
+
+    @Test
+    void everyWordMustMatch() {
+        assertArrayEquals(new int[] {2}, ords(INDEX.match("youth huosing")));
+        assertArrayEquals(new int[0], ords(INDEX.match("youth caring")));
+    }
+
+    @Test
+    void distanceCountsTranspositionAsOne() {
+        assertEquals(1, CatalogFuzzyIndex.distance("abcd", "abdc", 1));
+        assertEquals(2, CatalogFuzzyIndex.distance("kitten", "sitten1", 2));
+        assertEquals(-1, CatalogFuzzyIndex.distance("abc", "abcdef", 2));
+        assertEquals(-1, CatalogFuzzyIndex.distance("abcd", "dcba", 2));
+    }
+
+    @Test
+    void emptyIndexMatchesNothing() {
+        assertEquals(0, CatalogFuzzyIndex.empty().size());
+        assertArrayEquals(new int[0], ords(CatalogFuzzyIndex.empty().match("ㅊㅅ")));
+    }
+
+    private static CatalogFuzzyIndex index(String... names) {
+        CatalogTagCodes.Builder codes = new CatalogTagCodes.Builder();
+        List<CatalogItem> items = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            items.add(CatalogItem.of(new WelfareItemDto((long) i, names[i], null, null, null, null, null, null,
+                    null, null, null, null, null, null, null, null, null, null), codes));
+        }
+        return CatalogFuzzyIndex.build(items);
+    }
+
+    /** 비트셋 → 순번 배열 */
+    private static int[] ords(long[] bits) {
+        List<Integer> out = new ArrayList<>();
+        for (int i = Bitmaps.nextSetBit(bits, 0); i >= 0; i = Bitmaps.nextSetBit(bits, i + 1)) out.add(i);
+        return out.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,177 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.CatalogPage;
+import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.dto.CatalogSort;
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.config.catalog.CatalogProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CatalogCursor 단위 테스트 + 커서/페이지 번호로 끝까지 넘겼을 때의 결과 확인
+ * - 인코딩 왕복, 형식 오류/변조/음수 값 거부, 재적재(버전 변경)/정렬 불일치 거부
+ * - 관련도 순 마지막 페이지처럼 rank + size가 일치 수(k)를 넘는 경계에서 누락/중복이 없는지
+ */
+class CatalogCursorTest {
+
+    private static final int PAGE_SIZE = 7;
+
+    private static final CatalogSnapshot SNAP = CatalogRankerTest.snapshot(60);
+
+    private static final CatalogSearchService SERVICE = service(Integer.MAX_VALUE);
+
+    @Test
+    void roundTrip() {
+        for (CatalogSort sort : CatalogSort.values()) {
+            for (CatalogCursor c : List.of(
+                    new CatalogCursor(1, sort, 0, 0),
+                    new CatalogCursor(42, sort, 3, 21),
+                    new CatalogCursor(Long.MAX_VALUE, sort, Integer.MAX_VALUE, Integer.MAX_VALUE),
+                    new CatalogCursor(Long.MIN_VALUE, sort, 1, 1))) {
+                String encoded = c.encode();
+                assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="), encoded);
+                assertEquals(c, CatalogCursor.decode(encoded));
+            }
+        }
+    }
+
+    @Test
+    void rejectsMalformed() {
+        String valid = new CatalogCursor(1, CatalogSort.CATALOG, 1, 7).encode();
+        for (String cursor : new String[] {"", "!!!!", valid + "A", valid.substring(1), "AAAA"}) {
+            assertBadRequest("cursor: invalid", () -> CatalogCursor.decode(cursor));
+        }
+    }
+
+    @Test
+    void rejectsTamperedValues() {
+        assertBadRequest("cursor: invalid", () -> CatalogCursor.decode(raw(1, 99, 1, 7)));     // 없는 정렬
+        assertBadRequest("cursor: invalid", () -> CatalogCursor.decode(raw(1, -1, 1, 7)));
+        assertBadRequest("cursor: invalid", () -> CatalogCursor.decode(raw(1, 0, -1, 7)));     // 음수 페이지
+        assertBadRequest("cursor: invalid", () -> CatalogCursor.decode(raw(1, 0, 1, -7)));     // 음수 위치
+        assertBadRequest("cursor: invalid", () -> CatalogCursor.decode(raw(1, 0, 1, Integer.MIN_VALUE)));
+    }
+
+    @Test
+    void rejectsStaleAndMismatchedCursor() {
+        String stale = new CatalogCursor(SNAP.version() + 1, CatalogSort.CATALOG, 1, 7).encode();
+        assertBadRequest("cursor: expired, catalog was reloaded",
+                () -> SERVICE.search(SNAP, request(CatalogSort.CATALOG, null, stale)));
+
+        String relevance = new CatalogCursor(SNAP.version(), CatalogSort.RELEVANCE, 1, 7).encode();
+        assertBadRequest("cursor: sort mismatch",
+                () -> SERVICE.search(SNAP, request(CatalogSort.CATALOG, null, relevance)));
+    }
+
+    @Test
+    void cursorBeyondEndReturnsEmptyPage() {
+        for (CatalogSort sort : CatalogSort.values()) {
+            String far = new CatalogCursor(SNAP.version(), sort, 99, Integer.MAX_VALUE).encode();
+            CatalogPage<WelfareItemDto> page = SERVICE.search(SNAP, request(sort, null, far));
+            assertTrue(page.items().isEmpty(), sort.name());
+            assertNull(page.nextCursor(), sort.name());
+        }
+    }
+
+    @Test
+    void walkingPagesCoversEveryMatchOnce() {
+        for (CatalogSort sort : CatalogSort.values()) {
+            int[] expected = SERVICE.order(SNAP, request(sort, null, null));
+            assertTrue(expected.length % PAGE_SIZE != 0, "마지막 페이지가 rank + size > k 경계가 되도록");
+
+            assertArrayEquals(expected, walk(SERVICE, SNAP, sort, expected.length), sort.name());
+            assertArrayEquals(expected, walkCached(SNAP, expected, sort), sort.name());
+
+            // 페이지 번호로 요청해도 같은 구간, 범위 밖은 빈 페이지
+            int pages = (expected.length + PAGE_SIZE - 1) / PAGE_SIZE;
+            for (int p = 0; p <= pages; p++) {
+                int from = Math.min(p * PAGE_SIZE, expected.length);
+                int to = Math.min(from + PAGE_SIZE, expected.length);
+                CatalogPage<WelfareItemDto> page = SERVICE.search(SNAP, request(sort, p, null));
+                assertArrayEquals(Arrays.copyOfRange(expected, from, to), ids(page), sort + " page " + p);
+                assertEquals(to < expected.length, page.nextCursor() != null, sort + " page " + p);
+            }
+        }
+    }
+
+    @Test
+    void parallelRankingPagesMatchSequential() {
+        CatalogSnapshot big = CatalogRankerTest.snapshot(20_000);
+        CatalogSearchService parallel = service(0);
+        int[] expected = SERVICE.order(big, request(CatalogSort.RELEVANCE, null, null));
+        int pages = (expected.length + PAGE_SIZE - 1) / PAGE_SIZE;
+        for (int p : new int[] {0, 1, pages / 2, pages - 1, pages}) {
+            int from = Math.min(p * PAGE_SIZE, expected.length);
+            int to = Math.min(from + PAGE_SIZE, expected.length);
+            CatalogPage<WelfareItemDto> page = parallel.search(big, request(CatalogSort.RELEVANCE, p, null));
+            assertArrayEquals(Arrays.copyOfRange(expected, from, to), ids(page), "page " + p);
+        }
+    }
+
+    /** search 커서로 끝까지 넘기며 id 수집 */
+    private static int[] walk(CatalogSearchService service, CatalogSnapshot snap, CatalogSort sort, int total) {
+        List<Integer> out = new ArrayList<>();
+        String cursor = null;
+        do {
+            CatalogPage<WelfareItemDto> page = service.search(snap, request(sort, null, cursor));
+            assertTrue(page.items().size() <= PAGE_SIZE);
+            assertEquals(total, page.totalElements());
+            for (int id : ids(page)) out.add(id);
+            cursor = page.nextCursor();
+        } while (cursor != null && out.size() <= total);
+        return out.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** 미리 계산한 순번 목록(추천 캐시 경로)의 page()로 끝까지 넘기며 id 수집 */
+    private static int[] walkCached(CatalogSnapshot snap, int[] order, CatalogSort sort) {
+        List<Integer> out = new ArrayList<>();
+        String cursor = null;
+        do {
+            CatalogPage<WelfareItemDto> page = SERVICE.page(snap, order, sort, null, PAGE_SIZE, cursor);
+            for (int id : ids(page)) out.add(id);
+            cursor = page.nextCursor();
+        } while (cursor != null && out.size() <= order.length);
+        return out.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] ids(CatalogPage<WelfareItemDto> page) {
+        return page.items().stream().mapToInt(item -> item.id().intValue()).toArray();
+    }
+
+    /** 태그가 하나라도 있는 항목 (60개 중 일부) */
+    private static CatalogSearchRequest request(CatalogSort sort, Integer page, String cursor) {
+        return new CatalogSearchRequest(
+                null, List.of("INFANT", "CHILD", "TEEN", "YOUTH"), null, null, null, null, null, null, null, null,
+                sort, page, PAGE_SIZE, cursor);
+    }
+
+    /** 직접 만든 커서 바이트 (버전, 정렬 번호, 페이지, 위치) */
+    private static String raw(long version, int sort, int page, int from) {
+        ByteBuffer buf = ByteBuffer.allocate(Long.BYTES + 1 + Integer.BYTES * 2)
+                .putLong(version).put((byte) sort).putInt(page).putInt(from);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+    }
+
+    private static CatalogSearchService service(int parallelThreshold) {
+        CatalogProperties props = new CatalogProperties();
+        props.setParallelThreshold(parallelThreshold);
+        return new CatalogSearchService(null, new SimpleMeterRegistry(), new CatalogSearchExecutor(props));
+    }
+
+    private static void assertBadRequest(String reason, Runnable call) {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, call::run);
+        assertEquals(400, e.getStatusCode().value());
+        assertEquals(reason, e.getReason());
+    }
+}
@@ -0,0 +1,92 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.catalog.index.Bitmaps;
+import com.benefitmap.backend.catalog.index.CatalogItemJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 키워드 초성/오타 대체 규칙 테스트 (CatalogSearchService.keyword, 검색/패싯 공용)
+ * - 대체 여부는 카탈로그 전체의 부분 일치로 정하고, 그 뒤에 후보 제한(within)과 AND
+ * - 따라서 within을 먼저 주든(검색) 나중에 AND하든(패싯) 결과가 같아야 함
+ */
+class CatalogKeywordFallbackTest {
+
+    private static final CatalogSnapshot SNAP = CatalogSnapshot.build(1, "test", List.of(
+            item(0, "출산지원금"),            // "출산지원금" 부분 일치
+            item(1, "출산지원굼 안내"),        // "출산지원금"의 오타 허용 일치만
+            item(2, "청년 월세 지원"),
+            item(3, "청년 월세 지운 안내")     // "월세 지원"의 오타 허용 일치만
+    ), CatalogItemJson.writer(new ObjectMapper()));
+
+    private static final String[] KEYWORDS = {"출산지원금", "출산지원굼", "출산지윈금", "월세 지원", "ㅊㅅㅈㅇ", "ㅊㄴ", "없는말"};
+
+    @Test
+    void exactMatchAnywhereDisablesFallback() {
+        assertArrayEquals(new int[] {0}, ords(keyword("출산지원금", null)));
+        // within 안에는 부분 일치가 없지만 전체에는 있으므로 오타 허용 항목으로 대체하지 않음
+        assertArrayEquals(new int[0], ords(keyword("출산지원금", bits(1, 2, 3))));
+    }
+
+    @Test
+    void fallbackWhenNoExactMatchInCatalog() {
+        // "출산지윈금"은 어디에도 부분 일치가 없음 → 오타 허용(거리 1)으로 "출산지원금"만
+        assertArrayEquals(new int[] {0}, ords(keyword("출산지윈금", null)));
+        assertArrayEquals(new int[] {0}, ords(keyword("출산지윈금", bits(0, 2))));
+        assertArrayEquals(new int[0], ords(keyword("출산지윈금", bits(1, 2))));
+        assertArrayEquals(new int[] {0, 1}, ords(keyword("ㅊㅅㅈㅇ", null)));
+        assertArrayEquals(new int[] {3}, ords(keyword("ㅊㄴ", bits(3))));
+    }
+
+    @Test
+    void withinIsEquivalentToLaterAnd() {
+        int n = SNAP.size();
+        for (String kw : KEYWORDS) {
+            long[] global = keyword(kw, null);
+            for (int mask = 0; mask < 1 << n; mask++) {
+                long[] within = Bitmaps.empty(n);
+                for (int i = 0; i < n; i++) if ((mask & 1 << i) != 0) Bitmaps.set(within, i);
+
+                long[] expected = global.clone();
+                Bitmaps.and(expected, within);
+                assertArrayEquals(ords(expected), ords(keyword(kw, within)), kw + " within " + mask);
+            }
+        }
+    }
+
+    @Test
+    void withinIsNotModified() {
+        long[] within = bits(0, 2);
+        keyword("출산지윈금", within);
+        assertArrayEquals(new int[] {0, 2}, ords(within));
+    }
+
+    private static long[] keyword(String keyword, long[] within) {
+        return CatalogSearchService.keyword(SNAP, keyword, within, null);
+    }
+
+    private static WelfareItemDto item(long id, String name) {
+        return new WelfareItemDto(id, name, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private static long[] bits(int... ords) {
+        long[] out = Bitmaps.empty(SNAP.size());
+        for (int ord : ords) Bitmaps.set(out, ord);
+        return out;
+    }
+
+    /** 비트셋 → 순번 배열 */
+    private static int[] ords(long[] bits) {
+        List<Integer> out = new ArrayList<>();
+        for (int i = Bitmaps.nextSetBit(bits, 0); i >= 0; i = Bitmaps.nextSetBit(bits, i + 1)) out.add(i);
+        return out.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,123 @@
+package com.benefitmap.backend.catalog.service;
+
+import com.benefitmap.backend.catalog.CatalogSnapshot;
+import com.benefitmap.backend.catalog.dto.CatalogSearchRequest;
+import com.benefitmap.backend.catalog.dto.CatalogSort;
+import com.benefitmap.backend.catalog.dto.WelfareItemDto;
+import com.benefitmap.backend.catalog.index.Bitmaps;
+import com.benefitmap.backend.catalog.index.CatalogItemJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CatalogRanker 단위 테스트
+ * - 점수 = 요청 태그와 일치하는 태그 수 (키워드/마감일 없음) → 기대 순위를 직접 계산해 비교
+ * - 병렬 경로(TopKTask 분할 + 병합)가 순차 힙 선택과 같은 결과인지, 동점은 카탈로그 순서인지 확인
+ */
+class CatalogRankerTest {
+
+    /** 병렬 분할이 일어나도록 한 구간(128 word = 8192 순번)보다 크게 */
+    private static final int SIZE = 20_000;
+
+    private static final List<String> CODES = List.of("INFANT", "CHILD", "TEEN", "YOUTH");
+
+    private static final CatalogSnapshot SNAP = snapshot(SIZE);
+
+    private static final CatalogSearchRequest REQ = new CatalogSearchRequest(
+            null, CODES, null, null, null, null, null, null, null, null,
+            CatalogSort.RELEVANCE, null, null, null);
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private static final int TODAY = CatalogSearchService.today();
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void sequentialMatchesExpectedOrder() {
+        long[] bits = Bitmaps.full(SIZE);
+        for (int k : new int[] {1, 7, 100, 5_000, SIZE}) {
+            assertArrayEquals(expected(bits, k), CatalogRanker.topK(SNAP, REQ, bits, k, TODAY), "k=" + k);
+        }
+    }
+
+    @Test
+    void parallelMatchesSequential() {
+        Random random = new Random(7);
+        for (int round = 0; round < 5; round++) {
+            long[] bits = Bitmaps.empty(SIZE);
+            for (int i = 0; i < SIZE; i++) if (random.nextInt(10) < 6) Bitmaps.set(bits, i);
+            for (int k : new int[] {1, 13, 1_000, 9_000, SIZE}) {
+                int[] sequential = CatalogRanker.topK(SNAP, REQ, bits, k, TODAY);
+                assertArrayEquals(sequential, CatalogRanker.topK(SNAP, REQ, bits, k, TODAY, POOL),
+                        "round=" + round + " k=" + k);
+                assertArrayEquals(expected(bits, k), sequential, "round=" + round + " k=" + k);
+            }
+        }
+    }
+
+    @Test
+    void tiesKeepCatalogOrder() {
+        // 태그 조건이 없으면 모든 항목이 동점 → 앞 순번 k개 (구간 경계를 넘는 k 포함)
+        CatalogSearchRequest noTags = new CatalogSearchRequest(
+                null, null, null, null, null, null, null, null, null, null,
+                CatalogSort.RELEVANCE, null, null, null);
+        long[] bits = Bitmaps.full(SIZE);
+        for (int k : new int[] {1, 8_191, 8_193, 12_000}) {
+            int[] first = IntStream.range(0, k).toArray();
+            assertArrayEquals(first, CatalogRanker.topK(SNAP, noTags, bits, k, TODAY), "k=" + k);
+            assertArrayEquals(first, CatalogRanker.topK(SNAP, noTags, bits, k, TODAY, POOL), "k=" + k);
+        }
+    }
+
+    @Test
+    void fewerMatchesThanK() {
+        long[] bits = Bitmaps.empty(SIZE);
+        for (int i : new int[] {3, 9_000, 19_999}) Bitmaps.set(bits, i);
+        assertArrayEquals(expected(bits, 3), CatalogRanker.topK(SNAP, REQ, bits, 10, TODAY));
+        assertArrayEquals(expected(bits, 3), CatalogRanker.topK(SNAP, REQ, bits, 10, TODAY, POOL));
+        assertArrayEquals(new int[0], CatalogRanker.topK(SNAP, REQ, Bitmaps.empty(SIZE), 10, TODAY, POOL));
+        assertArrayEquals(new int[0], CatalogRanker.topK(SNAP, REQ, bits, 0, TODAY));
+    }
+
+    /** 기대 순위: 일치 태그 수 내림차순, 동점은 순번 오름차순 */
+    private static int[] expected(long[] bits, int k) {
+        List<Integer> ords = new ArrayList<>();
+        for (int i = Bitmaps.nextSetBit(bits, 0); i >= 0; i = Bitmaps.nextSetBit(bits, i + 1)) ords.add(i);
+        return ords.stream()
+                .sorted(Comparator.comparingInt((Integer i) -> -Integer.bitCount(tagBits(i)))
+                        .thenComparingInt(i -> i))
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /** 순번 → 생애주기 태그 부분집합 (CODES 기준 비트, 동점이 많도록 4비트) */
+    static int tagBits(int ordinal) {
+        return (ordinal * 7 + ordinal / 5) & 0xF;
+    }
+
+    static CatalogSnapshot snapshot(int size) {
+        List<WelfareItemDto> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            List<String> lifecycles = new ArrayList<>();
+            for (int b = 0; b < CODES.size(); b++) if ((tagBits(i) & 1 << b) != 0) lifecycles.add(CODES.get(b));
+            items.add(new WelfareItemDto((long) i, "복지 " + i, null, null, null, null, null, null,
+                    lifecycles, null, null, null, null, null, null, null, null, null));
+        }
+        return CatalogSnapshot.build(1, "test", items, CatalogItemJson.writer(new ObjectMapper()));
+    }
+}
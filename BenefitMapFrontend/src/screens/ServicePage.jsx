@@ -1,4 +1,4 @@
-import React, { useState, useEffect, useCallback } from 'react';
+import React, { useState, useEffect, useCallback, useRef } from 'react';
 import { useNavigate, useLocation } from 'react-router-dom';
 import styled from 'styled-components';
 import ScrollToTopButton from '../components/ScrollToTopButton';
@@ -507,6 +507,29 @@ const LoadingSpinner = styled.div`
     color: #666;
 `;
 
+const LoadMoreButton = styled.button`
+    display: block;
+    margin: 30px auto 0;
+    background-color: #ffffff;
+    color: #333;
+    border: 1px solid #ced4da;
+    padding: 12px 40px;
+    font-size: 15px;
+    cursor: pointer;
+    border-radius: 6px;
+    font-weight: 600;
+    transition: all 0.2s ease;
+
+    &:hover:not(:disabled) {
+        background-color: #f1f3f5;
+    }
+
+    &:disabled {
+        color: #adb5bd;
+        cursor: default;
+    }
+`;
+
 /* =========================
    백엔드 enum 매핑
    ========================= */
@@ -589,69 +612,79 @@ const translateTag = tagCode => codeToKorean[tagCode] || tagCode;
 /* =========================
    API 함수
    ========================= */
-const searchWelfareServices = async searchParams => {
-    try {
-        const response = await fetch(`/api/catalog/search`, {
-            method: 'POST',
-            credentials: 'include',
-            headers: {
-                'Content-Type': 'application/json',
-            },
-            body: JSON.stringify(searchParams),
-        });
+const SEARCH_PAGE_SIZE = 30;
+
+// 검색 결과 한 페이지를 가져온다. 다음 페이지는 nextCursor로 요청한다.
+// 카탈로그가 다시 적재되면 서버가 이전 커서를 400으로 거부하므로 staleCursor 표시를 붙여 던진다.
+const searchWelfareServices = async (searchParams, cursor = null) => {
+    const response = await fetch(`/api/catalog/search`, {
+        method: 'POST',
+        credentials: 'include',
+        headers: {
+            'Content-Type': 'application/json',
+        },
+        body: JSON.stringify({ ...searchParams, size: SEARCH_PAGE_SIZE, cursor }),
+    });
 
-        if (!response.ok) {
-            throw new Error(`HTTP error! status: ${response.status}`);
-        }
+    if (!response.ok) {
+        const body = await response.json().catch(() => null);
+        const error = new Error(`HTTP error! status: ${response.status}`);
+        error.staleCursor =
+            response.status === 400 &&
+            cursor !== null &&
+            String(body?.message || '').startsWith('cursor:');
+        throw error;
+    }
 
-        const data = await response.json();
+    const data = await response.json();
 
-        if (Array.isArray(data)) return data;
-        if (Array.isArray(data.data)) return data.data;
-        return [];
-    } catch (error) {
-        console.error('복지서비스 검색 실패:', error);
-        return [];
+    if (Array.isArray(data)) {
+        return { items: data, nextCursor: null, totalElements: data.length };
     }
+    if (Array.isArray(data.data)) {
+        return { items: data.data, nextCursor: null, totalElements: data.data.length };
+    }
+    if (!data.data || !Array.isArray(data.data.items)) {
+        return { items: [], nextCursor: null, totalElements: 0 };
+    }
+    return {
+        items: data.data.items,
+        nextCursor: data.data.nextCursor || null,
+        totalElements: data.data.totalElements ?? data.data.items.length,
+    };
 };
 
-/* =========================
-   프론트엔드 최종 필터링 로직
-   ========================= */
-function cardMatchesKeywordIncludingTags(svc, keyword) {
-    if (!keyword || keyword.trim() === '') return true;
-
-    const kw = keyword.trim().toLowerCase();
-
-    const haystackText = [
-        svc.welfareName,
-        svc.description,
-        svc.department,
-        svc.supplyType,
-        svc.supportCycle,
-    ]
-        .filter(Boolean)
-        .join(' ')
-        .toLowerCase();
-
-    if (haystackText.includes(kw)) return true;
-
-    const tagCodes = [
+const toServiceCard = svc => ({
+    id: svc.id,
+    tags: [
         ...(svc.lifecycles || []),
         ...(svc.households || []),
         ...(svc.interests || []),
-    ];
-    const tagCodesJoined = tagCodes.join(' ').toLowerCase();
-    if (tagCodesJoined.includes(kw)) return true;
-
-    const tagLabelsKorean = tagCodes
-        .map(code => codeToKorean[code] || '')
-        .join(' ')
-        .toLowerCase();
-    if (tagLabelsKorean.includes(kw)) return true;
-
-    return false;
-}
+    ],
+    title: svc.welfareName,
+    description: svc.description,
+    department: svc.department,
+    cycle: svc.supportCycle,
+    type: svc.supplyType,
+    contact: svc.contact,
+    url: svc.url,
+    applicationPeriod: {
+        startDate: svc.startDate,
+        endDate: svc.endDate,
+    },
+});
+
+// total은 서버 전체 일치 건수, 부처 유형별 건수는 불러온 카드 기준
+const summarizeServices = (services, total) => ({
+    total,
+    central: services.filter(s => s.department?.includes('부')).length,
+    local: services.filter(
+        s => s.department?.includes('시') || s.department?.includes('도')
+    ).length,
+    private: services.filter(
+        s => s.department?.includes('재단') || s.department?.includes('센터')
+    ).length,
+});
 
 /* =========================
    컴포넌트
@@ -760,70 +793,47 @@ const ServicePage = () => {
     const toEnumArray = (arr, mapObj) =>
         arr.length > 0 ? arr.map(kor => mapObj[kor]).filter(Boolean) : null;
 
-    const buildSearchPayload = useCallback(filters => {
+    // 키워드는 서버에서 부분 일치 → 없으면 초성/오타 허용으로 찾는다 (페이지마다 거르지 않음)
+    const buildSearchPayload = useCallback((filters, form) => {
+        const keyword = form.keyword?.trim();
         return {
-            keyword: null,
+            keyword: keyword ? keyword : null,
             lifecycles: toEnumArray(filters.lifeCycle, lifecyclesMap),
             households: toEnumArray(filters.household, householdMap),
             interests: toEnumArray(filters.topics, interestMap),
         };
     }, []);
 
-    const loadWelfareServices = useCallback(
-        async (filtersArg, formArg) => {
-            const filters = filtersArg ?? selectedFilters;
-            const form = formArg ?? searchForm;
-
-            setLoading(true);
-            try {
-                const payload = buildSearchPayload(filters);
-                const servicesFromServer = await searchWelfareServices(payload);
+    // 현재 목록의 검색 조건 (더 보기는 목록을 만든 조건 그대로 이어서 요청)
+    const queryRef = useRef(null);
+    // 요청 순번: 조건이 바뀐 뒤 늦게 도착한 이전 응답은 버린다.
+    const requestSeqRef = useRef(0);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
 
-                const refinedServerList = servicesFromServer.filter(svc =>
-                    cardMatchesKeywordIncludingTags(svc, form.keyword)
-                );
+    const applyPage = useCallback((page, previous) => {
+        const services = [...previous, ...page.items.map(toServiceCard)];
 
-                const transformedServices = refinedServerList.map(svc => ({
-                    id: svc.id,
-                    tags: [
-                        ...(svc.lifecycles || []),
-                        ...(svc.households || []),
-                        ...(svc.interests || []),
-                    ],
-                    title: svc.welfareName,
-                    description: svc.description,
-                    department: svc.department,
-                    cycle: svc.supportCycle,
-                    type: svc.supplyType,
-                    contact: svc.contact,
-                    url: svc.url,
-                    applicationPeriod: {
-                        startDate: svc.startDate,
-                        endDate: svc.endDate,
-                    },
-                }));
+        setWelfareServices(services);
+        setNextCursor(page.nextCursor);
+        setServiceSummary(summarizeServices(services, page.totalElements));
+    }, []);
 
-                setWelfareServices(transformedServices);
+    const loadFirstPage = useCallback(
+        async query => {
+            const seq = ++requestSeqRef.current;
+            queryRef.current = query;
 
-                setServiceSummary({
-                    total: transformedServices.length,
-                    central: transformedServices.filter(s =>
-                        s.department?.includes('부')
-                    ).length,
-                    local: transformedServices.filter(
-                        s =>
-                            s.department?.includes('시') ||
-                            s.department?.includes('도')
-                    ).length,
-                    private: transformedServices.filter(
-                        s =>
-                            s.department?.includes('재단') ||
-                            s.department?.includes('센터')
-                    ).length,
-                });
+            setLoading(true);
+            try {
+                const page = await searchWelfareServices(query);
+                if (seq !== requestSeqRef.current) return;
+                applyPage(page, []);
             } catch (error) {
+                if (seq !== requestSeqRef.current) return;
                 console.error('복지서비스 로드 실패:', error);
                 setWelfareServices([]);
+                setNextCursor(null);
                 setServiceSummary({
                     total: 0,
                     central: 0,
@@ -831,12 +841,44 @@ const ServicePage = () => {
                     private: 0,
                 });
             } finally {
-                setLoading(false);
+                if (seq === requestSeqRef.current) setLoading(false);
             }
         },
-        [buildSearchPayload, searchForm, selectedFilters]
+        [applyPage]
+    );
+
+    const loadWelfareServices = useCallback(
+        (filtersArg, formArg) => {
+            const filters = filtersArg ?? selectedFilters;
+            const form = formArg ?? searchForm;
+            return loadFirstPage(buildSearchPayload(filters, form));
+        },
+        [buildSearchPayload, loadFirstPage, searchForm, selectedFilters]
     );
 
+    const loadMoreServices = useCallback(async () => {
+        const query = queryRef.current;
+        if (!query || !nextCursor || loadingMore) return;
+
+        const seq = requestSeqRef.current;
+        setLoadingMore(true);
+        try {
+            const page = await searchWelfareServices(query, nextCursor);
+            if (seq !== requestSeqRef.current) return;
+            applyPage(page, welfareServices);
+        } catch (error) {
+            if (seq !== requestSeqRef.current) return;
+            if (error.staleCursor) {
+                // 카탈로그가 다시 적재되어 커서가 만료됨 → 같은 조건으로 첫 페이지부터 다시
+                loadFirstPage(query);
+                return;
+            }
+            console.error('복지서비스 추가 로드 실패:', error);
+        } finally {
+            setLoadingMore(false);
+        }
+    }, [applyPage, loadFirstPage, loadingMore, nextCursor, welfareServices]);
+
     const [locationLoaded, setLocationLoaded] = useState(false);
 
     const updateLocationFromBrowser = useCallback(() => {
@@ -1513,6 +1555,12 @@ const ServicePage = () => {
                                 })}
                             </ServiceCardGrid>
                         )}
+
+                        {!loading && nextCursor && (
+                            <LoadMoreButton onClick={loadMoreServices} disabled={loadingMore}>
+                                {loadingMore ? '불러오는 중...' : '더 보기'}
+                            </LoadMoreButton>
+                        )}
                     </ServiceDisplaySection>
                 </MainContent>
             </Container>